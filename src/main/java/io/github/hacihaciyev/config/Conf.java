@@ -1,8 +1,10 @@
 package io.github.hacihaciyev.config;
 
 import io.github.hacihaciyev.types.UUIDStrategy;
+import io.github.hacihaciyev.util.Nullable;
 
 import javax.sql.DataSource;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -13,6 +15,12 @@ public final class Conf {
     private final UUIDStrategy.Type uuidStrategy;
     private final Duration schemaTTLInSeconds;
     private final int schemaCacheSize;
+    private final String[] schemaPreload;
+    private final Path schemaSnapshot;
+    private final Duration schemaSweepInterval;
+    private final int statementCacheSize;
+    private final int bindLimit;
+    private final int asyncConcurrency;
     private final AtomicReference<DataSource> dataSourceRef = new AtomicReference<>();
 
     public static final Conf INSTANCE = new Conf();
@@ -22,6 +30,12 @@ public final class Conf {
         this.uuidStrategy = defUUIDStrategy();
         this.schemaTTLInSeconds = defSchemaCacheTTL();
         this.schemaCacheSize = defSchemaCacheSize();
+        this.schemaPreload = defSchemaPreload();
+        this.schemaSnapshot = defSchemaSnapshot();
+        this.schemaSweepInterval = defSchemaSweepInterval();
+        this.statementCacheSize = defStatementCacheSize();
+        this.bindLimit = defBindLimit();
+        this.asyncConcurrency = defAsyncConcurrency();
     }
 
     public String[] packages() {
@@ -40,6 +54,39 @@ public final class Conf {
         return schemaCacheSize;
     }
 
+    /**
+     * Schemas to preload on {@code JetQuerious.init}, as {@code schema} or {@code catalog.schema}.
+     */
+    public String[] schemaPreload() {
+        return schemaPreload.clone();
+    }
+
+    /**
+     * Schema snapshot file restored and written by {@code JetQuerious.init}, {@code null} when not configured.
+     */
+    public @Nullable Path schemaSnapshot() {
+        return schemaSnapshot;
+    }
+
+    /**
+     * Interval of the optional expired-entry sweeper started by {@code JetQuerious.init}, {@code null} when disabled.
+     */
+    public @Nullable Duration schemaSweepInterval() {
+        return schemaSweepInterval;
+    }
+
+    public int statementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public int bindLimit() {
+        return bindLimit;
+    }
+
+    public int asyncConcurrency() {
+        return asyncConcurrency;
+    }
+
     public DataSource dataSource() {
         return dataSourceRef.get();
     }
@@ -77,9 +124,67 @@ public final class Conf {
         try {
             var cacheSize = Integer.parseInt(System.getProperty("jetquerious.schema.cache.size"));
             if (cacheSize <= 0) return 128;
-            return Integer.highestOneBit(cacheSize - 1) << 1;
+            return Math.max(1, Integer.highestOneBit(cacheSize - 1) << 1);
         } catch (Exception _) {
             return 128;
         }
     }
+
+    private static String[] defSchemaPreload() {
+        var schemas = System.getProperty("jetquerious.schema.cache.preload");
+        if (schemas != null && !schemas.isBlank()) return schemas.split(";");
+        return new String[0];
+    }
+
+    private static Path defSchemaSnapshot() {
+        var file = System.getProperty("jetquerious.schema.cache.snapshot");
+        if (file == null || file.isBlank()) return null;
+        try {
+            return Path.of(file.trim());
+        } catch (Exception _) {
+            return null;
+        }
+    }
+
+    private static Duration defSchemaSweepInterval() {
+        var interval = System.getProperty("jetquerious.schema.cache.sweep");
+        if (interval == null) return null;
+        try {
+            var duration = Duration.parse(interval);
+            if (duration.isNegative() || duration.isZero()) return null;
+            return duration;
+        } catch (Exception _) {
+            return null;
+        }
+    }
+
+    private int defStatementCacheSize() {
+        try {
+            var cacheSize = Integer.parseInt(System.getProperty("jetquerious.statement.cache.size"));
+            if (cacheSize <= 0) return 512;
+            return cacheSize;
+        } catch (Exception _) {
+            return 512;
+        }
+    }
+
+    private int defBindLimit() {
+        try {
+            var limit = Integer.parseInt(System.getProperty("jetquerious.bind.limit"));
+            if (limit <= 0) return 32767;
+            return limit;
+        } catch (Exception _) {
+            return 32767;
+        }
+    }
+
+    private int defAsyncConcurrency() {
+        try {
+            var concurrency = Integer.parseInt(System.getProperty("jetquerious.async.concurrency"));
+            if (concurrency <= 0) return 10;
+            return concurrency;
+        } catch (Exception _) {
+            return 10;
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package io.github.hacihaciyev.jdbc;
+
+/**
+ * Transaction boundaries of a statement executed in chunks.
+ */
+public enum ChunkCommit {
+    /**
+     * All chunks succeed or none does.
+     */
+    SINGLE_TRANSACTION,
+    /**
+     * Every chunk is committed on its own, keeping locks and WAL volume bounded by the chunk size.
+     * A failure leaves earlier chunks committed.
+     */
+    PER_CHUNK
+}
@@ -0,0 +1,644 @@
+package io.github.hacihaciyev.jdbc;
+
+import io.github.hacihaciyev.config.Conf;
+import io.github.hacihaciyev.dsl.TableRef;
+import io.github.hacihaciyev.jdbc.internal.BinaryCopy;
+import io.github.hacihaciyev.jdbc.internal.AsyncExecutor;
+import io.github.hacihaciyev.jdbc.internal.BindPlan;
+import io.github.hacihaciyev.jdbc.internal.ColumnArrays;
+import io.github.hacihaciyev.jdbc.internal.Cursor;
+import io.github.hacihaciyev.jdbc.internal.StatementCache;
+import io.github.hacihaciyev.schema.SchemaVerificationException;
+import io.github.hacihaciyev.schema.internal.SchemaResolver;
+import io.github.hacihaciyev.schema.internal.Table;
+import io.github.hacihaciyev.sql.InList;
+import io.github.hacihaciyev.sql.KeysetQuery;
+import io.github.hacihaciyev.sql.RowsTemplate;
+import io.github.hacihaciyev.sql_error_translation.NotFoundException;
+import io.github.hacihaciyev.types.internal.MetaRegistry;
+import io.github.hacihaciyev.types.internal.TypeMeta;
+import io.github.hacihaciyev.util.Err;
+import io.github.hacihaciyev.util.Nullable;
+import io.github.hacihaciyev.util.Ok;
+import io.github.hacihaciyev.util.Result;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static io.github.hacihaciyev.sql_error_translation.SQLErrorTranslation.handleSQLException;
+import static io.github.hacihaciyev.types.internal.TypeRegistry.UNSUPPORTED_RECORD;
+import static java.util.Objects.requireNonNull;
+
+public final class JetQuerious {
+
+    static final String NOT_INITIALIZED = "JetQuerious is not initialized. Call JetQuerious.init(dataSource) first";
+
+    static final String NO_ROWS = "Query returned no rows";
+
+    static final String INVALID_CHUNK_SIZE = "Chunk size must be positive, was: %d";
+
+    static final String INVALID_FETCH_SIZE = "Fetch size must be positive, was: %d";
+
+    static final String INVALID_PAGE_SIZE = "Page size must be positive, was: %d";
+
+    static final String INVALID_CURSOR = "Cursor must hold %d key values, was: %d";
+
+    static final String RESULT_COUNT_MISMATCH = "Expected %d result sets, but the statements produced %d";
+
+    private static volatile JetQuerious instance;
+
+    private final DataSource dataSource;
+
+    private final AsyncExecutor async;
+
+    private JetQuerious(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.async = new AsyncExecutor(Conf.INSTANCE.asyncConcurrency());
+    }
+
+    public static void init(DataSource dataSource) {
+        requireNonNull(dataSource, "DataSource cannot be null");
+        Conf.INSTANCE.defDataSource(dataSource);
+        instance = new JetQuerious(dataSource);
+
+        var sweepInterval = Conf.INSTANCE.schemaSweepInterval();
+        if (sweepInterval != null) SchemaResolver.startSweeper(sweepInterval);
+
+        SchemaResolver.warmUp(Conf.INSTANCE.schemaPreload(), Conf.INSTANCE.schemaSnapshot(), dataSource);
+    }
+
+    public static JetQuerious instance() {
+        var jet = instance;
+        if (jet == null) throw new IllegalStateException(NOT_INITIALIZED);
+        return jet;
+    }
+
+    public <T> Result<T, Exception> read(String sql, ResultSetExtractor<T> extractor, Object... params) {
+        return read(sql, ResultSetType.FORWARD_ONLY_READ_ONLY, extractor, params);
+    }
+
+    public <T> Result<T, Exception> read(String sql, ResultSetType type, ResultSetExtractor<T> extractor, Object... params) {
+        requireNonNull(sql, "SQL cannot be null");
+        requireNonNull(type, "ResultSetType cannot be null");
+        requireNonNull(extractor, "Extractor cannot be null");
+
+        try (var conn = dataSource.getConnection()) {
+            var stmt = StatementCache.of(conn).prepare(sql, type, params);
+
+            try (var rs = stmt.executeQuery()) {
+                if (!rs.next()) return new Err<>(new NotFoundException(NO_ROWS));
+
+                var value = extractor.extractData(rs);
+                if (value == null) return new Err<>(new NotFoundException(NO_ROWS));
+                return new Ok<>(value);
+            }
+        } catch (SQLException e) {
+            return handleSQLException(e);
+        } catch (Exception e) {
+            return new Err<>(e);
+        }
+    }
+
+    public <T> CompletableFuture<Result<T, Exception>> asynchRead(String sql, ResultSetExtractor<T> extractor, Object... params) {
+        return async.submit(() -> read(sql, extractor, params));
+    }
+
+    public <T> Result<List<T>, Exception> readListOf(String sql, ResultSetExtractor<T> extractor, Object... params) {
+        return readListOf(sql, ResultSetType.FORWARD_ONLY_READ_ONLY, extractor, params);
+    }
+
+    public <T> Result<List<T>, Exception> readListOf(
+            String sql, ResultSetType type, ResultSetExtractor<T> extractor, Object... params) {
+
+        requireNonNull(sql, "SQL cannot be null");
+        requireNonNull(type, "ResultSetType cannot be null");
+        requireNonNull(extractor, "Extractor cannot be null");
+
+        try (var conn = dataSource.getConnection()) {
+            var stmt = StatementCache.of(conn).prepare(sql, type, params);
+
+            var values = new ArrayList<T>();
+            try (var rs = stmt.executeQuery()) {
+                while (rs.next()) values.add(extractor.extractData(rs));
+            }
+
+            return new Ok<>(values);
+        } catch (SQLException e) {
+            return handleSQLException(e);
+        } catch (Exception e) {
+            return new Err<>(e);
+        }
+    }
+
+    public <T> CompletableFuture<Result<List<T>, Exception>> asynchReadListOf(
+            String sql, ResultSetExtractor<T> extractor, Object... params) {
+
+        return async.submit(() -> readListOf(sql, extractor, params));
+    }
+
+    /**
+     * Binds every key as a single parameter, so a key record binds all of its components in order.
+     *
+     * @see #multiGet(RowsTemplate, List, Function, ResultSetExtractor, ResultSetExtractor)
+     */
+    public <K, T> Result<Map<K, T>, Exception> multiGet(
+            RowsTemplate template, List<K> keys, ResultSetExtractor<K> keyExtractor, ResultSetExtractor<T> extractor) {
+
+        return multiGet(template, keys, key -> new Object[]{key}, keyExtractor, extractor);
+    }
+
+    /**
+     * Fetches rows by composite keys with a row-value {@code IN} query (see {@code whereRowIn}), one statement per
+     * chunk of keys that fits into {@link Conf#bindLimit()} placeholders. A chunk is padded to its {@link InList#bucket}
+     * by repeating the last key, so only a few statement shapes are prepared. {@code keyExtractor} reads the key of a
+     * row, e.g. {@code RecordReader.of(AccountKey.class)}, and must produce keys equal to the requested ones.
+     *
+     * @return found rows in the order of {@code keys}; keys without a row are absent
+     */
+    public <K, T> Result<Map<K, T>, Exception> multiGet(
+            RowsTemplate template, List<K> keys, Function<? super K, Object[]> binder,
+            ResultSetExtractor<K> keyExtractor, ResultSetExtractor<T> extractor) {
+
+        requireNonNull(template, "Template cannot be null");
+        requireNonNull(keys, "Keys cannot be null");
+        requireNonNull(binder, "Binder cannot be null");
+        requireNonNull(keyExtractor, "Key extractor cannot be null");
+        requireNonNull(extractor, "Extractor cannot be null");
+        if (keys.isEmpty()) return new Ok<>(Map.of());
+
+        var maxRows = template.maxRows(Conf.INSTANCE.bindLimit());
+        try (var conn = dataSource.getConnection()) {
+            var cache = StatementCache.of(conn);
+            var found = HashMap.<K, T>newHashMap(keys.size());
+            var params = new ArrayList<>();
+
+            for (int from = 0; from < keys.size(); from += maxRows) {
+                var to = Math.min(keys.size(), from + maxRows);
+                Object[] last = null;
+                for (int i = from; i < to; i++) Collections.addAll(params, last = binder.apply(keys.get(i)));
+
+                var rows = Math.min(InList.bucket(to - from), maxRows);
+                for (int i = to - from; i < rows; i++) Collections.addAll(params, last);
+
+                var stmt = cache.prepare(template.sql(rows), ResultSetType.FORWARD_ONLY_READ_ONLY, params.toArray());
+                try (var rs = stmt.executeQuery()) {
+                    while (rs.next()) found.put(keyExtractor.extractData(rs), extractor.extractData(rs));
+                }
+                params.clear();
+            }
+
+            var ordered = LinkedHashMap.<K, T>newLinkedHashMap(found.size());
+            for (K key : keys) {
+                var value = found.get(key);
+                if (value != null) ordered.putIfAbsent(key, value);
+            }
+            return new Ok<>(ordered);
+        } catch (SQLException e) {
+            return handleSQLException(e);
+        } catch (Exception e) {
+            return new Err<>(e);
+        }
+    }
+
+    /**
+     * Reads one page of a {@link KeysetQuery}. Pass {@code null} as {@code cursor} for the first page and
+     * {@link Page#cursor()} of the previous page afterwards. The cursor is read from the last row by
+     * {@link KeysetQuery#labels()}, so keys that are expressions must be selected under an alias and named with
+     * {@link KeysetQuery#withLabels}.
+     */
+    public <T> Result<Page<T>, Exception> readPage(
+            KeysetQuery query, ResultSetExtractor<T> extractor, @Nullable Object[] cursor, int limit, Object... params) {
+
+        requireNonNull(query, "Keyset query cannot be null");
+        requireNonNull(extractor, "Extractor cannot be null");
+        if (limit <= 0) throw new IllegalArgumentException(INVALID_PAGE_SIZE.formatted(limit));
+
+        var labels = query.labels();
+        if (cursor != null && cursor.length != labels.length)
+            throw new IllegalArgumentException(INVALID_CURSOR.formatted(labels.length, cursor.length));
+
+        var paramCount = params == null ? 0 : params.length;
+        var cursorCount = cursor == null ? 0 : cursor.length;
+        var args = new Object[paramCount + cursorCount + 1];
+        if (paramCount > 0) System.arraycopy(params, 0, args, 0, paramCount);
+        if (cursorCount > 0) System.arraycopy(cursor, 0, args, paramCount, cursorCount);
+        args[args.length - 1] = limit;
+
+        var sql = cursor == null ? query.first().sql() : query.next().sql();
+
+        try (var conn = dataSource.getConnection()) {
+            var stmt = StatementCache.of(conn).prepare(sql, ResultSetType.FORWARD_ONLY_READ_ONLY, args);
+
+            var items = new ArrayList<T>(limit);
+            Object[] last = null;
+            try (var rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    items.add(extractor.extractData(rs));
+                    if (items.size() != limit) continue;
+
+                    last = new Object[labels.length];
+                    for (int i = 0; i < labels.length; i++) last[i] = rs.getObject(labels[i]);
+                }
+            }
+
+            return new Ok<>(new Page<>(items, last));
+        } catch (SQLException e) {
+            return handleSQLException(e);
+        } catch (Exception e) {
+            return new Err<>(e);
+        }
+    }
+
+    /**
+     * Executes several statements (e.g. built with {@code QueryForge.batchOf}) in one round trip and maps
+     * the n-th result set with the n-th extractor. Update counts of non-query statements are skipped.
+     */
+    @SuppressWarnings("unchecked")
+    public <A, B> Result<Tuple.Of2<List<A>, List<B>>, Exception> readBatch(
+            String sql, Object[] params, ResultSetExtractor<A> a, ResultSetExtractor<B> b) {
+
+        return readResultSets(sql, params, a, b)
+                .map(r -> new Tuple.Of2<>((List<A>) r.get(0), (List<B>) r.get(1)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, C> Result<Tuple.Of3<List<A>, List<B>, List<C>>, Exception> readBatch(
+            String sql, Object[] params, ResultSetExtractor<A> a, ResultSetExtractor<B> b, ResultSetExtractor<C> c) {
+
+        return readResultSets(sql, params, a, b, c)
+                .map(r -> new Tuple.Of3<>((List<A>) r.get(0), (List<B>) r.get(1), (List<C>) r.get(2)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, C, D> Result<Tuple.Of4<List<A>, List<B>, List<C>, List<D>>, Exception> readBatch(
+            String sql, Object[] params, ResultSetExtractor<A> a, ResultSetExtractor<B> b,
+            ResultSetExtractor<C> c, ResultSetExtractor<D> d) {
+
+        return readResultSets(sql, params, a, b, c, d)
+                .map(r -> new Tuple.Of4<>((List<A>) r.get(0), (List<B>) r.get(1), (List<C>) r.get(2), (List<D>) r.get(3)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, C, D, E> Result<Tuple.Of5<List<A>, List<B>, List<C>, List<D>, List<E>>, Exception> readBatch(
+            String sql, Object[] params, ResultSetExtractor<A> a, ResultSetExtractor<B> b,
+            ResultSetExtractor<C> c, ResultSetExtractor<D> d, ResultSetExtractor<E> e) {
+
+        return readResultSets(sql, params, a, b, c, d, e)
+                .map(r -> new Tuple.Of5<>((List<A>) r.get(0), (List<B>) r.get(1), (List<C>) r.get(2),
+                        (List<D>) r.get(3), (List<E>) r.get(4)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B, C, D, E, F> Result<Tuple.Of6<List<A>, List<B>, List<C>, List<D>, List<E>, List<F>>, Exception> readBatch(
+            String sql, Object[] params, ResultSetExtractor<A> a, ResultSetExtractor<B> b, ResultSetExtractor<C> c,
+            ResultSetExtractor<D> d, ResultSetExtractor<E> e, ResultSetExtractor<F> f) {
+
+        return readResultSets(sql, params, a, b, c, d, e, f)
+                .map(r -> new Tuple.Of6<>((List<A>) r.get(0), (List<B>) r.get(1), (List<C>) r.get(2),
+                        (List<D>) r.get(3), (List<E>) r.get(4), (List<F>) r.get(5)));
+    }
+
+    private Result<List<List<?>>, Exception> readResultSets(String sql, Object[] params, ResultSetExtractor<?>... extractors) {
+        requireNonNull(sql, "SQL cannot be null");
+        for (var extractor : extractors) requireNonNull(extractor, "Extractor cannot be null");
+
+        try (var conn = dataSource.getConnection()) {
+            var stmt = StatementCache.of(conn).prepare(sql, ResultSetType.FORWARD_ONLY_READ_ONLY, params);
+
+            var results = new ArrayList<List<?>>(extractors.length);
+            var isResultSet = stmt.execute();
+            while (isResultSet || stmt.getUpdateCount() != -1) {
+                if (isResultSet) {
+                    try (var rs = stmt.getResultSet()) {
+                        if (results.size() == extractors.length) {
+                            results.add(List.of());
+                        } else {
+                            var extractor = extractors[results.size()];
+                            var values = new ArrayList<>();
+                            while (rs.next()) values.add(extractor.extractData(rs));
+                            results.add(values);
+                        }
+                    }
+                }
+
+                isResultSet = stmt.getMoreResults();
+            }
+
+            if (results.size() != extractors.length)
+                return new Err<>(new IllegalStateException(RESULT_COUNT_MISMATCH.formatted(extractors.length, results.size())));
+
+            return new Ok<>(results);
+        } catch (SQLException e) {
+            return handleSQLException(e);
+        } catch (Exception e) {
+            return new Err<>(e);
+        }
+    }
+
+    /**
+     * Opens a forward-only cursor and maps rows lazily while the stream is consumed, fetching
+     * {@code fetchSize} rows per round trip. The stream holds a connection until it is consumed to the end or
+     * closed; a stream that may be abandoned early (e.g. by {@code findFirst} or {@code limit}) must be used in
+     * a try-with-resources block.
+     */
+    public <T> Result<Stream<T>, Exception> stream(String sql, ResultSetExtractor<T> mapper, int fetchSize, Object... params) {
+        requireNonNull(sql, "SQL cannot be null");
+        requireNonNull(mapper, "Mapper cannot be null");
+        if (fetchSize <= 0) throw new IllegalArgumentException(INVALID_FETCH_SIZE.formatted(fetchSize));
+
+        try {
+            return new Ok<>(Cursor.open(dataSource.getConnection(), sql, mapper, fetchSize, params));
+        } catch (SQLException e) {
+            return handleSQLException(e);
+        } catch (Exception e) {
+            return new Err<>(e);
+        }
+    }
+
+    public Result<Boolean, Exception> write(String sql, Object... params) {
+        requireNonNull(sql, "SQL cannot be null");
+
+        try (var conn = dataSource.getConnection()) {
+            var stmt = StatementCache.of(conn).prepare(sql, ResultSetType.FORWARD_ONLY_READ_ONLY, params);
+
+            stmt.executeUpdate();
+            return new Ok<>(true);
+        } catch (SQLException e) {
+            return handleSQLException(e);
+        } catch (Exception e) {
+            return new Err<>(e);
+        }
+    }
+
+    public CompletableFuture<Result<Boolean, Exception>> asynchWrite(String sql, Object... params) {
+        return async.submit(() -> write(sql, params));
+    }
+
+    /**
+     * Writes every element as a single parameter, so a record binds all of its components in order.
+     *
+     * @see #writeBatch(String, Iterable, Function, int)
+     */
+    public <T> Result<Long, Exception> writeBatch(String sql, Iterable<T> rows, int chunkSize) {
+        return writeBatch(sql, rows, row -> new Object[]{row}, chunkSize);
+    }
+
+    /**
+     * Executes {@code sql} once per element through JDBC batching, flushing every {@code chunkSize} rows.
+     * All chunks run in a single transaction.
+     *
+     * @return total update count; drivers reporting {@link Statement#SUCCESS_NO_INFO} count as one row per element
+     */
+    public <T> Result<Long, Exception> writeBatch(
+            String sql, Iterable<T> rows, Function<? super T, Object[]> binder, int chunkSize) {
+
+        requireNonNull(sql, "SQL cannot be null");
+        requireNonNull(rows, "Rows cannot be null");
+        requireNonNull(binder, "Binder cannot be null");
+        if (chunkSize <= 0) throw new IllegalArgumentException(INVALID_CHUNK_SIZE.formatted(chunkSize));
+
+        return inTransaction(conn -> {
+            var stmt = StatementCache.of(conn).prepare(sql);
+            try {
+                var plan = BindPlan.EMPTY;
+                var pending = 0;
+                var total = 0L;
+
+                for (T row : rows) {
+                    var params = binder.apply(row);
+                    if (!plan.matches(params)) plan = BindPlan.of(params);
+
+                    plan.apply(stmt, params);
+                    stmt.addBatch();
+
+                    if (++pending == chunkSize) {
+                        total += flush(stmt);
+                        pending = 0;
+                    }
+                }
+
+                if (pending > 0) total += flush(stmt);
+                return total;
+            } catch (Exception e) {
+                stmt.clearBatch();
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Writes every element as a single parameter, so a record binds all of its components in order.
+     *
+     * @see #writeRows(RowsTemplate, Iterable, Function)
+     */
+    public <T> Result<Long, Exception> writeRows(RowsTemplate template, Iterable<T> rows) {
+        return writeRows(template, rows, row -> new Object[]{row});
+    }
+
+    /**
+     * Inserts elements as multi-row statements rendered from {@code template}, each holding as many rows
+     * as fit into {@link Conf#bindLimit()} placeholders. All chunks run in a single transaction.
+     *
+     * @return total update count
+     */
+    public <T> Result<Long, Exception> writeRows(
+            RowsTemplate template, Iterable<T> rows, Function<? super T, Object[]> binder) {
+
+        requireNonNull(template, "Template cannot be null");
+        requireNonNull(rows, "Rows cannot be null");
+        requireNonNull(binder, "Binder cannot be null");
+
+        var maxRows = template.maxRows(Conf.INSTANCE.bindLimit());
+        return inTransaction(conn -> {
+            var cache = StatementCache.of(conn);
+            var params = new ArrayList<>();
+            var pending = 0;
+            var total = 0L;
+
+            for (T row : rows) {
+                Collections.addAll(params, binder.apply(row));
+
+                if (++pending == maxRows) {
+                    total += cache.prepare(template.sql(pending), ResultSetType.FORWARD_ONLY_READ_ONLY, params.toArray()).executeUpdate();
+                    params.clear();
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0)
+                total += cache.prepare(template.sql(pending), ResultSetType.FORWARD_ONLY_READ_ONLY, params.toArray()).executeUpdate();
+            return total;
+        });
+    }
+
+    private static long flush(PreparedStatement stmt) throws SQLException {
+        var total = 0L;
+        for (int count : stmt.executeBatch()) {
+            if (count > 0) total += count;
+            else if (count == Statement.SUCCESS_NO_INFO) total++;
+        }
+        return total;
+    }
+
+    /**
+     * Executes an {@code UNNEST} statement (see {@code ValuesBuilder#unnest}) once for all {@code rows}, binding
+     * each record component as one array parameter. The statement text is the same for any row count.
+     *
+     * @return update count
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Record> Result<Long, Exception> writeUnnest(String sql, Class<T> type, List<? extends T> rows) {
+        requireNonNull(sql, "SQL cannot be null");
+        requireNonNull(type, "Record type cannot be null");
+        requireNonNull(rows, "Rows cannot be null");
+
+        if (!(MetaRegistry.meta(type) instanceof TypeMeta.Record<?> rec))
+            return new Err<>(new IllegalArgumentException(UNSUPPORTED_RECORD.formatted(type.getName())));
+        if (rows.isEmpty()) return new Ok<>(0L);
+
+        try (var conn = dataSource.getConnection()) {
+            var stmt = StatementCache.of(conn).prepare(sql);
+            ColumnArrays.of((TypeMeta.Record<T>) rec).bind(stmt, rows);
+            return new Ok<>((long) stmt.executeUpdate());
+        } catch (SQLException e) {
+            return handleSQLException(e);
+        } catch (Exception e) {
+            return new Err<>(e);
+        }
+    }
+
+    /**
+     * Executes {@code sql} once per chunk of {@code keys}, binding the chunk as its only parameter. Meant for
+     * {@code DELETE ... WHERE id = ANY(?)} (see {@code DeleteFromBuilder#whereAny}), where the statement text
+     * is the same for every chunk.
+     *
+     * @return total update count
+     */
+    public Result<Long, Exception> deleteByKeys(String sql, Collection<?> keys, int chunkSize, ChunkCommit commit) {
+        requireNonNull(keys, "Keys cannot be null");
+        var list = keys instanceof List<?> l ? l : new ArrayList<>(keys);
+        return executeChunks(sql, list.size(), chunkSize, commit, list::subList);
+    }
+
+    /**
+     * @see #deleteByKeys(String, Collection, int, ChunkCommit)
+     */
+    public Result<Long, Exception> deleteByKeys(String sql, long[] keys, int chunkSize, ChunkCommit commit) {
+        requireNonNull(keys, "Keys cannot be null");
+        return executeChunks(sql, keys.length, chunkSize, commit, (from, to) -> Arrays.copyOfRange(keys, from, to));
+    }
+
+    private Result<Long, Exception> executeChunks(
+            String sql, int size, int chunkSize, ChunkCommit commit, ChunkSlicer slicer) {
+
+        requireNonNull(sql, "SQL cannot be null");
+        requireNonNull(commit, "Chunk commit cannot be null");
+        if (chunkSize <= 0) throw new IllegalArgumentException(INVALID_CHUNK_SIZE.formatted(chunkSize));
+        if (size == 0) return new Ok<>(0L);
+
+        return inTransaction(conn -> {
+            var cache = StatementCache.of(conn);
+            var total = 0L;
+            for (int from = 0; from < size; from += chunkSize) {
+                var chunk = slicer.slice(from, Math.min(size, from + chunkSize));
+                total += cache.prepare(sql, ResultSetType.FORWARD_ONLY_READ_ONLY, chunk).executeUpdate();
+                if (commit == ChunkCommit.PER_CHUNK) conn.commit();
+            }
+            return total;
+        });
+    }
+
+    @FunctionalInterface
+    private interface ChunkSlicer {
+        Object slice(int from, int to);
+    }
+
+    /**
+     * Streams records into {@code table} with PostgreSQL {@code COPY ... FROM STDIN (FORMAT binary)}.
+     * Components are encoded according to the column types resolved by {@link SchemaResolver}.
+     *
+     * @return number of copied rows
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Record> Result<Long, Exception> copy(TableRef table, Class<T> type, Iterable<? extends T> rows) {
+        requireNonNull(table, "Table cannot be null");
+        requireNonNull(type, "Record type cannot be null");
+        requireNonNull(rows, "Rows cannot be null");
+
+        if (!(MetaRegistry.meta(type) instanceof TypeMeta.Record<?> rec))
+            return new Err<>(new IllegalArgumentException(UNSUPPORTED_RECORD.formatted(type.getName())));
+
+        return switch (SchemaResolver.load(table, dataSource)) {
+            case Err<Table, SchemaVerificationException>(var e) -> new Err<>(e);
+            case Ok<Table, SchemaVerificationException>(var resolved) -> {
+                try (var conn = dataSource.getConnection()) {
+                    var copy = BinaryCopy.of((TypeMeta.Record<T>) rec, resolved);
+                    yield new Ok<>(copy.copy(conn, rows));
+                } catch (SQLException e) {
+                    yield handleSQLException(e);
+                } catch (Exception e) {
+                    yield new Err<>(e);
+                }
+            }
+        };
+    }
+
+    public Result<Boolean, Exception> transactional(TransactionContext<Connection> context) {
+        requireNonNull(context, "Transaction context cannot be null");
+
+        return inTransaction(conn -> {
+            context.accept(conn);
+            return true;
+        });
+    }
+
+    private <R> Result<R, Exception> inTransaction(TransactionFunction<R> function) {
+        try (var conn = dataSource.getConnection()) {
+            var autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try {
+                var value = function.apply(conn);
+                conn.commit();
+                return new Ok<>(value);
+            } catch (SQLException e) {
+                conn.rollback();
+                return handleSQLException(e);
+            } catch (Exception e) {
+                conn.rollback();
+                return new Err<>(e);
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            return handleSQLException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface TransactionFunction<R> {
+        R apply(Connection conn) throws Exception;
+    }
+
+    public void stepInTransaction(Connection conn, String sql, Object... params) throws Exception {
+        requireNonNull(conn, "Connection cannot be null");
+        requireNonNull(sql, "SQL cannot be null");
+
+        var stmt = StatementCache.of(conn).prepare(sql, ResultSetType.FORWARD_ONLY_READ_ONLY, params);
+        stmt.executeUpdate();
+    }
+}
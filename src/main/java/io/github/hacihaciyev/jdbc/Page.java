@@ -0,0 +1,16 @@
+package io.github.hacihaciyev.jdbc;
+
+import io.github.hacihaciyev.util.Nullable;
+
+import java.util.List;
+
+/**
+ * @param cursor key of the last row, to be passed when reading the next page;
+ *               {@code null} when the page was not full and no further rows exist.
+ */
+public record Page<T>(List<T> items, @Nullable Object[] cursor) {
+
+    public boolean hasNext() {
+        return cursor != null;
+    }
+}
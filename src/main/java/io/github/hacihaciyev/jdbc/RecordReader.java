@@ -0,0 +1,115 @@
+package io.github.hacihaciyev.jdbc;
+
+import io.github.hacihaciyev.types.internal.Field;
+import io.github.hacihaciyev.types.internal.MetaRegistry;
+import io.github.hacihaciyev.types.internal.RowReader;
+import io.github.hacihaciyev.types.internal.TypeMeta;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+
+import static io.github.hacihaciyev.types.internal.TypeRegistry.UNSUPPORTED_RECORD;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Row mapper backed by the build-time generated reader of a record.
+ *
+ * <p>Column labels are resolved to indexes once per distinct set of labels and checked once per result set;
+ * every further row of the same result set is read with index-based getters straight into the canonical
+ * constructor without touching its metadata. A component matches
+ * a column when their names are equal ignoring case and underscores, so {@code hashedPassword} reads
+ * {@code hashed_password}.</p>
+ */
+public final class RecordReader<T> implements ResultSetExtractor<T> {
+
+    static final String COLUMN_NOT_FOUND = "No column found for component {%s} of record {%s}";
+
+    static final String UNREADABLE_RECORD = "Record {%s} has a record component that does not wrap a single column and cannot be read from a row";
+
+    private static final String COLUMN_NOT_FOUND_STATE = "42703";
+
+    private final Class<T> type;
+
+    private final Field<T, ?>[] fields;
+
+    private final RowReader<T> reader;
+
+    private volatile Columns columns;
+
+    private record Columns(WeakReference<ResultSet> source, String[] labels, int[] indexes) {
+
+        boolean readsFrom(ResultSet rs) {
+            return source.get() == rs;
+        }
+
+        Columns bind(ResultSet rs) {
+            return new Columns(new WeakReference<>(rs), labels, indexes);
+        }
+
+        boolean matches(ResultSetMetaData meta) throws SQLException {
+            if (meta.getColumnCount() != labels.length) return false;
+            for (int i = 0; i < labels.length; i++) {
+                if (!labels[i].equals(meta.getColumnLabel(i + 1))) return false;
+            }
+            return true;
+        }
+    }
+
+    private RecordReader(Class<T> type, Field<T, ?>[] fields, RowReader<T> reader) {
+        this.type = type;
+        this.fields = fields;
+        this.reader = reader;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Record> RecordReader<T> of(Class<T> type) {
+        requireNonNull(type, "Record type cannot be null");
+
+        if (!(MetaRegistry.meta(type) instanceof TypeMeta.Record<?> rec))
+            throw new IllegalArgumentException(UNSUPPORTED_RECORD.formatted(type.getName()));
+
+        var meta = (TypeMeta.Record<T>) rec;
+        if (meta.reader() == null) throw new IllegalArgumentException(UNREADABLE_RECORD.formatted(type.getName()));
+
+        return new RecordReader<>(type, meta.fields(), meta.reader());
+    }
+
+    @Override
+    public T extractData(ResultSet rs) throws SQLException {
+        var cols = columns;
+        if (cols == null || !cols.readsFrom(rs)) {
+            var meta = rs.getMetaData();
+            cols = cols != null && cols.matches(meta) ? cols.bind(rs) : resolve(rs, meta);
+            columns = cols;
+        }
+
+        return reader.read(rs, cols.indexes());
+    }
+
+    private Columns resolve(ResultSet rs, ResultSetMetaData meta) throws SQLException {
+        var labels = new String[meta.getColumnCount()];
+        var byName = HashMap.<String, Integer>newHashMap(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = meta.getColumnLabel(i + 1);
+            byName.putIfAbsent(normalize(labels[i]), i + 1);
+        }
+
+        var indexes = new int[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            var idx = byName.get(normalize(fields[i].name()));
+            if (idx == null)
+                throw new SQLException(COLUMN_NOT_FOUND.formatted(fields[i].name(), type.getName()), COLUMN_NOT_FOUND_STATE);
+
+            indexes[i] = idx;
+        }
+        return new Columns(new WeakReference<>(rs), labels, indexes);
+    }
+
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.hacihaciyev.jdbc;
+
+/**
+ * Typed results of a multi-statement call, one component per result set in statement order.
+ */
+public sealed interface Tuple {
+
+    record Of2<A, B>(A first, B second) implements Tuple {}
+
+    record Of3<A, B, C>(A first, B second, C third) implements Tuple {}
+
+    record Of4<A, B, C, D>(A first, B second, C third, D fourth) implements Tuple {}
+
+    record Of5<A, B, C, D, E>(A first, B second, C third, D fourth, E fifth) implements Tuple {}
+
+    record Of6<A, B, C, D, E, F>(A first, B second, C third, D fourth, E fifth, F sixth) implements Tuple {}
+}
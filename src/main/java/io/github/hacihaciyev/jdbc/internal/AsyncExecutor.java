@@ -0,0 +1,54 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.util.Err;
+import io.github.hacihaciyev.util.Result;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking calls on virtual threads, admitting at most {@code concurrency} of them at a time.
+ *
+ * <p>Waiting for a permit parks only the virtual thread, so thousands of pending calls cost little while the
+ * number of connections requested from the pool never exceeds the limit. The semaphore is fair, so calls are
+ * admitted in arrival order.</p>
+ */
+public final class AsyncExecutor {
+
+    private static final ThreadFactory THREADS = Thread.ofVirtual().name("jetquerious-async-", 0).factory();
+
+    private static final Executor EXECUTOR = task -> THREADS.newThread(task).start();
+
+    private final Semaphore permits;
+
+    public AsyncExecutor(int concurrency) {
+        if (concurrency <= 0) throw new IllegalArgumentException("Concurrency must be positive.");
+        this.permits = new Semaphore(concurrency, true);
+    }
+
+    public <T> CompletableFuture<Result<T, Exception>> submit(Supplier<Result<T, Exception>> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Err<>(e);
+            }
+
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                return new Err<>(e);
+            } finally {
+                permits.release();
+            }
+        }, EXECUTOR);
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,514 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.schema.internal.Column;
+import io.github.hacihaciyev.schema.internal.Table;
+import io.github.hacihaciyev.types.SQLType;
+import io.github.hacihaciyev.types.internal.Field;
+import io.github.hacihaciyev.types.internal.MetaRegistry;
+import io.github.hacihaciyev.types.internal.TypeMeta;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Streams records into a table through PostgreSQL {@code COPY ... FROM STDIN (FORMAT binary)}.
+ *
+ * <p>Record components are matched to table columns the same way {@code RecordReader} matches them
+ * (case-insensitive, underscores ignored). The wire type of every component is chosen from the resolved
+ * column type once, so encoding a row is a flat loop over precomputed encoders; {@code int}, {@code long}
+ * and {@code double} components are written without boxing.</p>
+ *
+ * <p>The PostgreSQL driver is looked up reflectively, it is not a compile-time dependency.</p>
+ */
+public final class BinaryCopy<T> {
+
+    static final String COLUMN_NOT_FOUND = "No column found for component {%s} in table {%s}";
+
+    static final String UNSUPPORTED_COLUMN = "Cannot encode component {%s} of type {%s} into column {%s}";
+
+    static final String DRIVER_NOT_FOUND = "COPY requires the PostgreSQL JDBC driver";
+
+    static final String NOT_POSTGRES = "COPY is supported only on PostgreSQL connections";
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+
+    private static final long PG_EPOCH_DAYS = 10_957;
+
+    private static final long PG_EPOCH_MICROS = PG_EPOCH_DAYS * 86_400_000_000L;
+
+    private static final BigInteger NBASE = BigInteger.valueOf(10_000);
+
+    private final String sql;
+
+    private final ComponentEncoder<T>[] encoders;
+
+    @FunctionalInterface
+    private interface ComponentEncoder<T> {
+        void encode(T row, Buffer out);
+    }
+
+    @FunctionalInterface
+    private interface ValueEncoder {
+        void encode(Object value, Buffer out);
+    }
+
+    private enum Wire {
+        INT2, INT4, INT8, FLOAT4, FLOAT8, BOOL, TEXT, BYTEA, UUID,
+        DATE, TIME, TIMESTAMP, TIMESTAMPTZ, NUMERIC, JSON, JSONB;
+
+        static Wire of(SQLType type) {
+            return switch (type) {
+                case SMALLINT -> INT2;
+                case INT, INTEGER -> INT4;
+                case BIGINT -> INT8;
+                case REAL -> FLOAT4;
+                case FLOAT, DOUBLE, DOUBLE_PRECISION -> FLOAT8;
+                case BOOLEAN -> BOOL;
+                case CHAR, CHARACTER, VARCHAR, CHARACTER_VARYING, TEXT -> TEXT;
+                case VARBINARY -> BYTEA;
+                case UUID -> UUID;
+                case DATE -> DATE;
+                case TIME -> TIME;
+                case TIMESTAMP, TIMESTAMP_WITHOUT_TIME_ZONE -> TIMESTAMP;
+                case TIMESTAMP_WITH_TIME_ZONE -> TIMESTAMPTZ;
+                case DECIMAL, NUMERIC -> NUMERIC;
+                case JSON -> JSON;
+                case JSONB -> JSONB;
+                default -> null;
+            };
+        }
+    }
+
+    private BinaryCopy(String sql, ComponentEncoder<T>[] encoders) {
+        this.sql = sql;
+        this.encoders = encoders;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> BinaryCopy<T> of(TypeMeta.Record<T> meta, Table table) {
+        requireNonNull(meta, "Record meta cannot be null");
+        requireNonNull(table, "Table cannot be null");
+
+        var fields = meta.fields();
+        var encoders = (ComponentEncoder<T>[]) new ComponentEncoder[fields.length];
+        var columns = new String[fields.length];
+
+        for (int i = 0; i < fields.length; i++) {
+            var field = fields[i];
+            var column = column(table, field.name());
+
+            columns[i] = quote(column.name());
+            encoders[i] = encoder(field, column);
+        }
+
+        var sql = "COPY " + qualifiedName(table) + " (" + String.join(", ", columns) + ") FROM STDIN (FORMAT binary)";
+        return new BinaryCopy<>(sql, encoders);
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public InputStream stream(Iterable<? extends T> rows) {
+        requireNonNull(rows, "Rows cannot be null");
+        return new Encoding(rows.iterator());
+    }
+
+    /**
+     * @return number of copied rows
+     */
+    public long copy(Connection conn, Iterable<? extends T> rows) throws SQLException {
+        requireNonNull(conn, "Connection cannot be null");
+        return PgCopyApi.copyIn(conn, sql, stream(rows));
+    }
+
+    private static Column column(Table table, String component) {
+        var name = normalize(component);
+        for (var column : table.columns()) {
+            if (normalize(column.name()).equals(name)) return column;
+        }
+        throw new IllegalArgumentException(COLUMN_NOT_FOUND.formatted(component, table.name()));
+    }
+
+    private static <T> ComponentEncoder<T> encoder(Field<T, ?> field, Column column) {
+        var wire = column instanceof Column.Known known ? Wire.of(known.type()) : null;
+        if (wire == null) throw unsupported(field, column);
+
+        var primitive = primitiveEncoder(field.primitive(), wire);
+        if (primitive != null) return primitive;
+
+        var value = valueEncoder(field.type(), wire);
+        if (value == null) throw unsupported(field, column);
+
+        var accessor = field.accessor();
+        return (row, out) -> {
+            var v = accessor.apply(row);
+            if (v == null) out.putInt(-1);
+            else value.encode(v, out);
+        };
+    }
+
+    private static <T> ComponentEncoder<T> primitiveEncoder(Field.Primitive<T> primitive, Wire wire) {
+        return switch (primitive) {
+            case Field.Primitive.OfInt<T>(var accessor) when wire == Wire.INT4 -> (row, out) -> {
+                out.putInt(4);
+                out.putInt(accessor.applyAsInt(row));
+            };
+            case Field.Primitive.OfInt<T>(var accessor) when wire == Wire.INT8 -> (row, out) -> {
+                out.putInt(8);
+                out.putLong(accessor.applyAsInt(row));
+            };
+            case Field.Primitive.OfLong<T>(var accessor) when wire == Wire.INT8 -> (row, out) -> {
+                out.putInt(8);
+                out.putLong(accessor.applyAsLong(row));
+            };
+            case Field.Primitive.OfDouble<T>(var accessor) when wire == Wire.FLOAT8 -> (row, out) -> {
+                out.putInt(8);
+                out.putLong(Double.doubleToRawLongBits(accessor.applyAsDouble(row)));
+            };
+            default -> null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueEncoder valueEncoder(Class<?> type, Wire wire) {
+        var boxed = boxed(type);
+
+        ValueEncoder encoder = switch (wire) {
+            case INT2 -> boxed == Short.class || boxed == Byte.class ? (v, out) -> {
+                out.putInt(2);
+                out.putShort(((Number) v).shortValue());
+            } : null;
+            case INT4 -> boxed == Integer.class || boxed == Short.class || boxed == Byte.class ? (v, out) -> {
+                out.putInt(4);
+                out.putInt(((Number) v).intValue());
+            } : null;
+            case INT8 -> boxed == Long.class || boxed == Integer.class || boxed == Short.class || boxed == Byte.class ? (v, out) -> {
+                out.putInt(8);
+                out.putLong(((Number) v).longValue());
+            } : null;
+            case FLOAT4 -> boxed == Float.class ? (v, out) -> {
+                out.putInt(4);
+                out.putInt(Float.floatToRawIntBits((Float) v));
+            } : null;
+            case FLOAT8 -> boxed == Double.class || boxed == Float.class ? (v, out) -> {
+                out.putInt(8);
+                out.putLong(Double.doubleToRawLongBits(((Number) v).doubleValue()));
+            } : null;
+            case BOOL -> boxed == Boolean.class ? (v, out) -> {
+                out.putInt(1);
+                out.put((byte) ((Boolean) v ? 1 : 0));
+            } : null;
+            case TEXT -> boxed == String.class || boxed == Character.class || type.isEnum()
+                    ? (v, out) -> text(v instanceof Enum<?> e ? e.name() : v.toString(), out)
+                    : null;
+            case JSON -> boxed == String.class ? (v, out) -> text((String) v, out) : null;
+            case JSONB -> boxed == String.class ? (v, out) -> {
+                var bytes = ((String) v).getBytes(StandardCharsets.UTF_8);
+                out.putInt(bytes.length + 1);
+                out.put((byte) 1);
+                out.put(bytes);
+            } : null;
+            case BYTEA -> boxed == byte[].class ? (v, out) -> {
+                var bytes = (byte[]) v;
+                out.putInt(bytes.length);
+                out.put(bytes);
+            } : null;
+            case UUID -> boxed == UUID.class ? (v, out) -> {
+                var uuid = (UUID) v;
+                out.putInt(16);
+                out.putLong(uuid.getMostSignificantBits());
+                out.putLong(uuid.getLeastSignificantBits());
+            } : null;
+            case DATE -> boxed == LocalDate.class ? (v, out) -> {
+                out.putInt(4);
+                out.putInt((int) (((LocalDate) v).toEpochDay() - PG_EPOCH_DAYS));
+            } : null;
+            case TIME -> boxed == LocalTime.class ? (v, out) -> {
+                out.putInt(8);
+                out.putLong(((LocalTime) v).toNanoOfDay() / 1_000);
+            } : null;
+            case TIMESTAMP -> boxed == LocalDateTime.class ? (v, out) -> {
+                var ldt = (LocalDateTime) v;
+                out.putInt(8);
+                out.putLong(micros(ldt.toEpochSecond(ZoneOffset.UTC), ldt.getNano()));
+            } : null;
+            case TIMESTAMPTZ -> boxed == Instant.class || boxed == OffsetDateTime.class || boxed == ZonedDateTime.class ? (v, out) -> {
+                var instant = switch (v) {
+                    case OffsetDateTime odt -> odt.toInstant();
+                    case ZonedDateTime zdt -> zdt.toInstant();
+                    default -> (Instant) v;
+                };
+                out.putInt(8);
+                out.putLong(micros(instant.getEpochSecond(), instant.getNano()));
+            } : null;
+            case NUMERIC -> boxed == BigDecimal.class ? (v, out) -> numeric((BigDecimal) v, out) : null;
+        };
+        if (encoder != null || !type.isRecord()) return encoder;
+
+        if (!(MetaRegistry.meta(type) instanceof TypeMeta.Record<?> rec) || rec.fields().length != 1) return null;
+
+        var inner = (Field<Object, ?>) rec.fields()[0];
+        var innerEncoder = valueEncoder(inner.type(), wire);
+        if (innerEncoder == null) return null;
+
+        Function<Object, ?> accessor = inner.accessor();
+        return (v, out) -> {
+            var value = accessor.apply(v);
+            if (value == null) out.putInt(-1);
+            else innerEncoder.encode(value, out);
+        };
+    }
+
+    private static void text(String value, Buffer out) {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    private static long micros(long epochSecond, int nano) {
+        return epochSecond * 1_000_000 + nano / 1_000 - PG_EPOCH_MICROS;
+    }
+
+    /**
+     * PostgreSQL numeric: base-10000 digits, most significant first, with the weight of the first digit.
+     */
+    private static void numeric(BigDecimal value, Buffer out) {
+        var dscale = Math.max(value.scale(), 0);
+
+        var abs = value.abs();
+        if (abs.scale() < 0) abs = abs.setScale(0);
+
+        var groupsScale = (abs.scale() + 3) / 4 * 4;
+        var unscaled = abs.setScale(groupsScale).unscaledValue();
+
+        var digits = new short[unscaled.bitLength() / 13 + 1];
+        var count = 0;
+        if (unscaled.bitLength() < 63) {
+            for (var v = unscaled.longValue(); v != 0; v /= 10_000) digits[count++] = (short) (v % 10_000);
+        } else {
+            for (var v = unscaled; v.signum() != 0; ) {
+                var qr = v.divideAndRemainder(NBASE);
+                digits[count++] = qr[1].shortValue();
+                v = qr[0];
+            }
+        }
+
+        var low = 0;
+        while (low < count && digits[low] == 0) low++;
+
+        var ndigits = count - low;
+        var weight = ndigits == 0 ? 0 : count - 1 - groupsScale / 4;
+
+        out.putInt(8 + ndigits * 2);
+        out.putShort((short) ndigits);
+        out.putShort((short) weight);
+        out.putShort((short) (value.signum() < 0 ? 0x4000 : 0));
+        out.putShort((short) dscale);
+        for (int i = count - 1; i >= low; i--) out.putShort(digits[i]);
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        if (!type.isPrimitive()) return type;
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == double.class) return Double.class;
+        if (type == float.class) return Float.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        if (type == char.class) return Character.class;
+        return type;
+    }
+
+    private static IllegalArgumentException unsupported(Field<?, ?> field, Column column) {
+        return new IllegalArgumentException(UNSUPPORTED_COLUMN.formatted(field.name(), field.type().getName(), column.name()));
+    }
+
+    private static String qualifiedName(Table table) {
+        if (table.schema() instanceof Table.Schema.Known(var schema)) return quote(schema) + "." + quote(table.name());
+        return quote(table.name());
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private final class Encoding extends InputStream {
+
+        private final Iterator<? extends T> rows;
+
+        private final Buffer buffer = new Buffer(FLUSH_THRESHOLD + 1024);
+
+        private int position;
+
+        private boolean done;
+
+        Encoding(Iterator<? extends T> rows) {
+            this.rows = rows;
+            buffer.put(SIGNATURE);
+            buffer.putInt(0);
+            buffer.putInt(0);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return 0;
+            if (position == buffer.size && !fill()) return -1;
+
+            var n = Math.min(len, buffer.size - position);
+            System.arraycopy(buffer.bytes, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        private boolean fill() throws IOException {
+            if (done) return false;
+
+            buffer.size = 0;
+            position = 0;
+            try {
+                while (buffer.size < FLUSH_THRESHOLD && rows.hasNext()) encode(rows.next());
+            } catch (RuntimeException e) {
+                throw new IOException(e);
+            }
+
+            if (!rows.hasNext()) {
+                buffer.putShort((short) -1);
+                done = true;
+            }
+            return buffer.size > 0;
+        }
+
+        private void encode(T row) {
+            requireNonNull(row, "Row cannot be null");
+
+            buffer.putShort((short) encoders.length);
+            for (var encoder : encoders) encoder.encode(row, buffer);
+        }
+    }
+
+    private static final class Buffer {
+
+        byte[] bytes;
+
+        int size;
+
+        Buffer(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        void put(byte b) {
+            ensure(1);
+            bytes[size++] = b;
+        }
+
+        void put(byte[] b) {
+            ensure(b.length);
+            System.arraycopy(b, 0, bytes, size, b.length);
+            size += b.length;
+        }
+
+        void putShort(short v) {
+            ensure(2);
+            bytes[size++] = (byte) (v >>> 8);
+            bytes[size++] = (byte) v;
+        }
+
+        void putInt(int v) {
+            ensure(4);
+            bytes[size++] = (byte) (v >>> 24);
+            bytes[size++] = (byte) (v >>> 16);
+            bytes[size++] = (byte) (v >>> 8);
+            bytes[size++] = (byte) v;
+        }
+
+        void putLong(long v) {
+            putInt((int) (v >>> 32));
+            putInt((int) v);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+
+    private static final class PgCopyApi {
+
+        private static final Class<?> PG_CONNECTION;
+
+        private static final Method GET_COPY_API;
+
+        private static final Method COPY_IN;
+
+        static {
+            Class<?> pgConnection = null;
+            Method getCopyApi = null;
+            Method copyIn = null;
+            try {
+                pgConnection = Class.forName("org.postgresql.PGConnection");
+                getCopyApi = pgConnection.getMethod("getCopyAPI");
+                copyIn = Class.forName("org.postgresql.copy.CopyManager").getMethod("copyIn", String.class, InputStream.class);
+            } catch (ReflectiveOperationException _) {
+                pgConnection = null;
+            }
+
+            PG_CONNECTION = pgConnection;
+            GET_COPY_API = getCopyApi;
+            COPY_IN = copyIn;
+        }
+
+        private PgCopyApi() {}
+
+        static long copyIn(Connection conn, String sql, InputStream in) throws SQLException {
+            if (PG_CONNECTION == null) throw new SQLFeatureNotSupportedException(DRIVER_NOT_FOUND);
+            if (!conn.isWrapperFor(PG_CONNECTION)) throw new SQLFeatureNotSupportedException(NOT_POSTGRES);
+
+            try {
+                var copyApi = GET_COPY_API.invoke(conn.unwrap(PG_CONNECTION));
+                return (long) COPY_IN.invoke(copyApi, sql, in);
+            } catch (InvocationTargetException e) {
+                var cause = e.getCause();
+                if (cause instanceof SQLException sqlException) throw sqlException;
+                if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+                throw new SQLException(cause.getMessage(), cause);
+            } catch (IllegalAccessException e) {
+                throw new SQLException(e.getMessage(), e);
+            }
+        }
+    }
+}
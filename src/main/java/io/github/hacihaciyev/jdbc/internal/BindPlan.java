@@ -0,0 +1,101 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.sql_error_translation.InvalidArgumentTypeException;
+import io.github.hacihaciyev.types.Setter;
+import io.github.hacihaciyev.types.TypeInlineException;
+import io.github.hacihaciyev.types.internal.TypeInfoOk;
+import io.github.hacihaciyev.types.internal.TypeRegistry;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Parameter binding plan resolved once for a tuple of argument classes.
+ *
+ * <p>Applying a plan is a flat loop over precomputed {@link Setter}s without any
+ * {@link TypeRegistry} lookup. A plan is valid for a parameter array as long as
+ * {@link #matches(Object[])} holds.</p>
+ *
+ * <p>A parameter may fill more than one placeholder (a composite record binds each of its
+ * components), so every setter carries its precomputed starting index.</p>
+ */
+public final class BindPlan {
+
+    static final String UNSUPPORTED_PARAMETER = "Unsupported parameter type {%s} at index %d";
+
+    public static final BindPlan EMPTY = new BindPlan(new Class<?>[0], new Setter[0], new int[0], 0);
+
+    private static final Setter NULL_SETTER = (stmt, _, idx) -> stmt.setNull(idx, Types.NULL);
+
+    private final Class<?>[] types;
+
+    private final Setter[] setters;
+
+    private final int[] indexes;
+
+    private final int width;
+
+    private BindPlan(Class<?>[] types, Setter[] setters, int[] indexes, int width) {
+        this.types = types;
+        this.setters = setters;
+        this.indexes = indexes;
+        this.width = width;
+    }
+
+    public static BindPlan of(Object... params) throws InvalidArgumentTypeException {
+        if (params == null || params.length == 0) return EMPTY;
+
+        var types = new Class<?>[params.length];
+        var setters = new Setter[params.length];
+        var indexes = new int[params.length];
+        var idx = 1;
+
+        for (int i = 0; i < params.length; i++) {
+            indexes[i] = idx;
+
+            var param = params[i];
+            if (param == null) {
+                setters[i] = NULL_SETTER;
+                idx++;
+                continue;
+            }
+
+            var type = param.getClass();
+            if (!(TypeRegistry.info(type) instanceof TypeInfoOk info))
+                throw new InvalidArgumentTypeException(UNSUPPORTED_PARAMETER.formatted(type.getName(), i + 1));
+
+            types[i] = type;
+            setters[i] = info.setter();
+            idx += info.width();
+        }
+
+        return new BindPlan(types, setters, indexes, idx - 1);
+    }
+
+    public boolean matches(Object... params) {
+        var length = params == null ? 0 : params.length;
+        if (length != types.length) return false;
+
+        for (int i = 0; i < length; i++) {
+            var param = params[i];
+            if (param == null ? types[i] != null : param.getClass() != types[i]) return false;
+        }
+        return true;
+    }
+
+    public void apply(PreparedStatement stmt, Object... params) throws SQLException, TypeInlineException {
+        for (int i = 0; i < setters.length; i++) setters[i].set(stmt, params[i], indexes[i]);
+    }
+
+    public int size() {
+        return setters.length;
+    }
+
+    /**
+     * Number of placeholders this plan fills.
+     */
+    public int width() {
+        return width;
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.types.ArrayDefinition;
+import io.github.hacihaciyev.types.internal.ArrayBinder;
+import io.github.hacihaciyev.types.internal.Field;
+import io.github.hacihaciyev.types.internal.TypeMeta;
+
+import java.lang.invoke.MethodType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Binds a list of records column-wise: component {@code i} of every record goes into the array bound at
+ * parameter {@code i + 1}, matching {@code UNNEST(?::bigint[], ?::text[], ...)}.
+ *
+ * <p>{@code int}, {@code long} and {@code double} components are collected into primitive arrays through the
+ * non-boxing accessors; every other component is collected into an array of the component type.</p>
+ */
+public final class ColumnArrays<T> {
+
+    static final String NO_ARRAY_TYPE = "Component {%s} of record {%s} has no SQL array type";
+
+    private final ColumnBinder<T>[] binders;
+
+    @FunctionalInterface
+    private interface ColumnBinder<T> {
+        void bind(PreparedStatement stmt, List<? extends T> rows, int idx) throws SQLException;
+    }
+
+    private ColumnArrays(ColumnBinder<T>[] binders) {
+        this.binders = binders;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> ColumnArrays<T> of(TypeMeta.Record<T> rec) {
+        var fields = rec.fields();
+        var binders = (ColumnBinder<T>[]) new ColumnBinder<?>[fields.length];
+        for (int i = 0; i < fields.length; i++) binders[i] = binder(rec, fields[i]);
+
+        return new ColumnArrays<>(binders);
+    }
+
+    public int width() {
+        return binders.length;
+    }
+
+    public void bind(PreparedStatement stmt, List<? extends T> rows) throws SQLException {
+        for (int i = 0; i < binders.length; i++) binders[i].bind(stmt, rows, i + 1);
+    }
+
+    private static <T> ColumnBinder<T> binder(TypeMeta.Record<T> rec, Field<T, ?> field) {
+        return switch (field.primitive()) {
+            case Field.Primitive.OfLong<T>(var accessor) -> (stmt, rows, idx) -> {
+                var values = new long[rows.size()];
+                for (int i = 0; i < values.length; i++) values[i] = accessor.applyAsLong(rows.get(i));
+                ArrayBinder.setLongs(stmt, values, idx);
+            };
+            case Field.Primitive.OfInt<T>(var accessor) -> (stmt, rows, idx) -> {
+                var values = new int[rows.size()];
+                for (int i = 0; i < values.length; i++) values[i] = accessor.applyAsInt(rows.get(i));
+                ArrayBinder.setInts(stmt, values, idx);
+            };
+            case Field.Primitive.OfDouble<T>(var accessor) -> (stmt, rows, idx) -> {
+                var values = new double[rows.size()];
+                for (int i = 0; i < values.length; i++) values[i] = accessor.applyAsDouble(rows.get(i));
+                ArrayBinder.setDoubles(stmt, values, idx);
+            };
+            case Field.Primitive.None<T> _ -> objects(rec, field);
+        };
+    }
+
+    private static <T> ColumnBinder<T> objects(TypeMeta.Record<T> rec, Field<T, ?> field) {
+        ArrayDefinition definition = ArrayBinder.definition(MethodType.methodType(field.type()).wrap().returnType());
+        if (definition == null)
+            throw new IllegalArgumentException(NO_ARRAY_TYPE.formatted(field.name(), rec.type().getName()));
+
+        var accessor = field.accessor();
+        return (stmt, rows, idx) -> {
+            var values = new Object[rows.size()];
+            for (int i = 0; i < values.length; i++) values[i] = accessor.apply(rows.get(i));
+            ArrayBinder.setObjects(stmt, definition, values, idx);
+        };
+    }
+}
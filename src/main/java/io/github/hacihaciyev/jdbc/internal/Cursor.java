@@ -0,0 +1,130 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.jdbc.ResultSetExtractor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Open forward-only cursor exposed as a lazily fetched {@link Stream}.
+ *
+ * <p>The cursor owns its connection: reading past the last row, a failure while advancing or closing the
+ * stream closes the result set and statement, ends the read transaction and returns the connection. Rows are
+ * pulled from the driver in batches of the statement's fetch size, so memory stays bounded regardless of the
+ * result size.</p>
+ *
+ * <p>Errors while advancing are rethrown as {@link IllegalStateException} with the original cause.</p>
+ */
+public final class Cursor<T> extends Spliterators.AbstractSpliterator<T> implements AutoCloseable {
+
+    static final String ADVANCE_FAILED = "Failed to advance cursor";
+
+    private final Connection connection;
+
+    private final boolean autoCommit;
+
+    private final PreparedStatement statement;
+
+    private final ResultSet resultSet;
+
+    private final ResultSetExtractor<T> mapper;
+
+    private boolean closed;
+
+    private Cursor(Connection connection, boolean autoCommit, PreparedStatement statement,
+                   ResultSet resultSet, ResultSetExtractor<T> mapper) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED);
+        this.connection = connection;
+        this.autoCommit = autoCommit;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Executes {@code sql} on {@code connection} and takes ownership of it. Autocommit is switched off for the
+     * lifetime of the cursor, which PostgreSQL requires to keep a server-side cursor instead of buffering all rows.
+     */
+    public static <T> Stream<T> open(Connection connection, String sql, ResultSetExtractor<T> mapper,
+                                     int fetchSize, Object... params) throws Exception {
+        var autoCommit = false;
+        PreparedStatement statement = null;
+        try {
+            autoCommit = connection.getAutoCommit();
+            if (autoCommit) connection.setAutoCommit(false);
+
+            statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            BindPlan.of(params).apply(statement, params);
+
+            var cursor = new Cursor<>(connection, autoCommit, statement, statement.executeQuery(), mapper);
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+        } catch (Exception e) {
+            closeQuietly(statement);
+            release(connection, autoCommit);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (closed) return false;
+
+        try {
+            if (!resultSet.next()) {
+                close();
+                return false;
+            }
+            action.accept(mapper.extractData(resultSet));
+            return true;
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        } catch (Exception e) {
+            close();
+            throw new IllegalStateException(ADVANCE_FAILED, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        try {
+            resultSet.close();
+        } catch (SQLException _) {}
+
+        closeQuietly(statement);
+        release(connection, autoCommit);
+    }
+
+    private static void release(Connection connection, boolean autoCommit) {
+        try {
+            connection.rollback();
+        } catch (SQLException _) {}
+
+        try {
+            if (autoCommit) connection.setAutoCommit(true);
+        } catch (SQLException _) {
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException _) {}
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        if (statement == null) return;
+        try {
+            statement.close();
+        } catch (SQLException _) {}
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.config.Conf;
+import io.github.hacihaciyev.jdbc.ResultSetType;
+import io.github.hacihaciyev.sql_error_translation.InvalidArgumentTypeException;
+import io.github.hacihaciyev.types.TypeInlineException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Per-connection LRU cache of prepared statements keyed by SQL text and {@link ResultSetType}.
+ *
+ * <p>Statements are prepared against the physical connection (obtained through {@link Connection#unwrap}),
+ * so they survive the pool handing the same connection out again. This deliberately bypasses the pool's own
+ * statement tracking: the pool never closes these statements, the cache does on eviction. A physical connection
+ * is used by a single thread at a time, therefore a cache instance itself is not synchronized.</p>
+ *
+ * <p>The registry cannot key connections weakly, since every cached statement references its connection. The
+ * cache of a closed connection is dropped as soon as it is looked up instead, and caches of other closed
+ * connections are purged on every registration and on a sample of lookups, so connections a shrinking pool
+ * closed become collectable while the remaining ones keep serving queries.</p>
+ *
+ * <p>Each cached statement keeps the {@link BindPlan}s of its last few argument class tuples, so repeated calls
+ * with the same argument classes bind parameters without any type dispatch, even when a nullable parameter
+ * alternates between {@code null} and a value.</p>
+ *
+ * <p>Cached statements must never be closed by the caller, only their result sets.</p>
+ */
+public final class StatementCache {
+
+    private static final int CAPACITY = Conf.INSTANCE.statementCacheSize();
+
+    private static final int PLANS_PER_STATEMENT = 4;
+
+    /**
+     * One in {@code PURGE_SAMPLE + 1} cache hits also purges the caches of closed connections.
+     */
+    private static final int PURGE_SAMPLE = 255;
+
+    private static final Map<Connection, StatementCache> CACHES = new ConcurrentHashMap<>();
+
+    private final Connection connection;
+
+    private final LinkedHashMap<Key, Cached> statements;
+
+    private record Key(String sql, ResultSetType type) {}
+
+    private static final class Cached {
+        final PreparedStatement statement;
+        final BindPlan[] plans = new BindPlan[PLANS_PER_STATEMENT];
+        int last;
+
+        Cached(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        BindPlan plan(Object... params) throws InvalidArgumentTypeException {
+            for (int i = 0; i < plans.length; i++) {
+                var slot = (last + i) % plans.length;
+                var plan = plans[slot];
+                if (plan != null && plan.matches(params)) {
+                    last = slot;
+                    return plan;
+                }
+            }
+
+            var plan = BindPlan.of(params);
+            last = (last + 1) % plans.length;
+            plans[last] = plan;
+            return plan;
+        }
+    }
+
+    private StatementCache(Connection connection) {
+        this.connection = connection;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Cached> eldest) {
+                if (size() <= CAPACITY) return false;
+                closeQuietly(eldest.getValue().statement);
+                return true;
+            }
+        };
+    }
+
+    public static StatementCache of(Connection conn) throws SQLException {
+        requireNonNull(conn, "Connection cannot be null");
+
+        var physical = physical(conn);
+        var cache = CACHES.get(physical);
+        if (cache != null) {
+            if (!isClosed(physical)) {
+                if ((ThreadLocalRandom.current().nextInt() & PURGE_SAMPLE) == 0) purgeClosed();
+                return cache;
+            }
+            CACHES.remove(physical, cache);
+        }
+
+        purgeClosed();
+        return CACHES.computeIfAbsent(physical, StatementCache::new);
+    }
+
+    public PreparedStatement prepare(String sql) throws SQLException {
+        return prepare(sql, ResultSetType.FORWARD_ONLY_READ_ONLY);
+    }
+
+    public PreparedStatement prepare(String sql, ResultSetType type) throws SQLException {
+        return cached(sql, type).statement;
+    }
+
+    public PreparedStatement prepare(String sql, ResultSetType type, Object... params)
+            throws SQLException, TypeInlineException, InvalidArgumentTypeException {
+
+        var cached = cached(sql, type);
+        cached.plan(params).apply(cached.statement, params);
+        return cached.statement;
+    }
+
+    private Cached cached(String sql, ResultSetType type) throws SQLException {
+        requireNonNull(sql, "SQL cannot be null");
+        requireNonNull(type, "ResultSetType cannot be null");
+
+        var key = new Key(sql, type);
+        var cached = statements.get(key);
+        if (cached != null) {
+            if (!cached.statement.isClosed()) {
+                cached.statement.clearParameters();
+                return cached;
+            }
+
+            statements.remove(key);
+        }
+
+        cached = new Cached(connection.prepareStatement(sql, type.type(), type.concurrency()));
+        statements.put(key, cached);
+        return cached;
+    }
+
+    public void evict(String sql, ResultSetType type) {
+        var cached = statements.remove(new Key(sql, type));
+        if (cached != null) closeQuietly(cached.statement);
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    static boolean registered(Connection physical) {
+        return CACHES.containsKey(physical);
+    }
+
+    private static void purgeClosed() {
+        CACHES.entrySet().removeIf(entry -> isClosed(entry.getKey()));
+    }
+
+    private static boolean isClosed(Connection conn) {
+        try {
+            return conn.isClosed();
+        } catch (SQLException _) {
+            return true;
+        }
+    }
+
+    private static Connection physical(Connection conn) throws SQLException {
+        if (!conn.isWrapperFor(Connection.class)) return conn;
+
+        var unwrapped = conn.unwrap(Connection.class);
+        return unwrapped != null ? unwrapped : conn;
+    }
+
+    private static void closeQuietly(PreparedStatement stmt) {
+        try {
+            stmt.close();
+        } catch (SQLException _) {}
+    }
+}
@@ -5,20 +5,32 @@ import io.github.hacihaciyev.dsl.TableRef;
 import io.github.hacihaciyev.schema.SchemaVerificationException;
 import io.github.hacihaciyev.types.SQLType;
 import io.github.hacihaciyev.util.Err;
+import io.github.hacihaciyev.util.Nullable;
 import io.github.hacihaciyev.util.Ok;
 import io.github.hacihaciyev.util.Result;
 
 import javax.sql.DataSource;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Objects.requireNonNull;
 import static io.github.hacihaciyev.schema.internal.Table.Catalog;
@@ -28,47 +40,51 @@ public class SchemaResolver {
 
     static final String TABLE_NOT_FOUND = "Table not found: catalog{%s}, schema{%s}, table{%s}";
 
+    static final String PRELOAD_FAILED = "Failed to preload schema: catalog{%s}, schema{%s}";
+
+    static final String SNAPSHOT_FAILED = "Failed to access schema snapshot: %s";
+
+    private static final Comparator<SchemaSnapshot.Entry> SNAPSHOT_ORDER = Comparator
+            .comparing(SchemaSnapshot.Entry::catalog, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(SchemaSnapshot.Entry::schema, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(entry -> entry.table().name());
+
     private static final String[] SCHEM_TYPES = new String[]{"TABLE", "VIEW"};
 
     private static final int CACHE_SIZE = Conf.INSTANCE.schemaCacheSize();
 
     private static final long TTL_NANOS = Conf.INSTANCE.schemaTTLInSeconds().toNanos();
 
-    private static final AtomicReferenceArray<CachedTable> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+    /**
+     * How long an entry past its TTL is still served while it is being reloaded.
+     */
+    private static final long STALE_NANOS = TTL_NANOS;
 
-    private static final AtomicBoolean CLEANUP_RUNNING = new AtomicBoolean(true);
+    private static final TableCache CACHE = new TableCache(CACHE_SIZE);
 
-    private static final long CLEANUP_INTERVAL_MS = 1_000;
+    private static final ConcurrentHashMap<TableCache.Key, CompletableFuture<Result<Table, SchemaVerificationException>>> LOADING =
+            new ConcurrentHashMap<>();
 
-    static {
-        Thread.startVirtualThread(() -> {
-            while (CLEANUP_RUNNING.get()) {
-                try {
-                    Thread.sleep(CLEANUP_INTERVAL_MS);
-                    cleanup();
-                } catch (InterruptedException _) {
-                    Thread.currentThread().interrupt();
-                    break;
-                }
-            }
-        });
-    }
+    private static final AtomicReference<Thread> SWEEPER = new AtomicReference<>();
 
-    private record CachedTable(Table table, long expiresAt, int dataSourceID) {
-        boolean isExpired() {
-            return System.nanoTime() > expiresAt;
-        }
+    /**
+     * Snapshot files registered by {@link #warmUp} and {@link #restore}, by data source id.
+     */
+    private static final ConcurrentHashMap<Integer, Persisted> SNAPSHOTS = new ConcurrentHashMap<>();
 
-        boolean matches(String catalog, String schema, String tableName, int dataSourceId) {
-            if (this.dataSourceID != dataSourceId) return false;
-            if (!table.name().equals(tableName)) return false;
+    /**
+     * Data sources whose cache was loaded into since their snapshot was last written.
+     */
+    private static final Set<Integer> DIRTY = ConcurrentHashMap.newKeySet();
 
-            var tableCat = asStrOrNull(table.catalog());
-            var tableSchema = asStrOrNull(table.schema());
+    /**
+     * Fingerprint of the registered snapshot as last read or written, by data source id.
+     */
+    private static final ConcurrentHashMap<Integer, Long> WRITTEN = new ConcurrentHashMap<>();
 
-            return Objects.equals(tableCat, catalog) && Objects.equals(tableSchema, schema);
-        }
-    }
+    private static final AtomicBoolean SHUTDOWN_FLUSH = new AtomicBoolean();
+
+    private record Persisted(Path file, String source) {}
 
     private enum Meta {
         TABLE_CAT,
@@ -94,44 +110,471 @@ public class SchemaResolver {
         var schema = schemaOrNull(tableRef);
         var table = tableRef.name();
 
-        var dataSourceId = System.identityHashCode(dataSource);
-        var index = index(cat, schema, table, dataSourceId);
+        var key = new TableCache.Key(cat, schema, table, System.identityHashCode(dataSource));
+        var cached = CACHE.get(key);
+        if (cached != null) {
+            if (cached.stale()) refreshInBackground(key, dataSource);
+            return new Ok<>(cached.table());
+        }
 
-        var cache = CACHE.get(index);
-        if (cache != null && cache.matches(cat, schema, table, dataSourceId)) {
-            if (!cache.isExpired()) return new Ok<>(cache.table);
-            CACHE.compareAndSet(index, cache, null);
+        var loading = new CompletableFuture<Result<Table, SchemaVerificationException>>();
+        var inFlight = LOADING.putIfAbsent(key, loading);
+        if (inFlight != null) return await(inFlight);
+
+        try {
+            var res = fetch(key, dataSource);
+            loading.complete(res);
+            return res;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            LOADING.remove(key, loading);
         }
+    }
+
+    private static Result<Table, SchemaVerificationException> await(
+            CompletableFuture<Result<Table, SchemaVerificationException>> inFlight) {
 
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            // rethrow what the loading thread threw, not the wrapper
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+
+    static @Nullable CompletableFuture<Result<Table, SchemaVerificationException>> loading(TableCache.Key key) {
+        return LOADING.get(key);
+    }
+
+    /**
+     * Serves the stale entry while a single virtual thread per key reloads it; a failed reload keeps the stale
+     * entry until it expires.
+     */
+    private static void refreshInBackground(TableCache.Key key, DataSource dataSource) {
+        var loading = new CompletableFuture<Result<Table, SchemaVerificationException>>();
+        if (LOADING.putIfAbsent(key, loading) != null) return;
+
+        Thread.startVirtualThread(() -> {
+            try {
+                loading.complete(fetch(key, dataSource));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            } finally {
+                LOADING.remove(key, loading);
+            }
+        });
+    }
+
+    static Result<Table, SchemaVerificationException> fetch(TableCache.Key key, DataSource dataSource) {
+        var start = System.nanoTime();
         try (Connection conn = dataSource.getConnection()) {
             var meta = conn.getMetaData();
-            var res = table(meta, cat, schema, table);
+            var res = table(meta, key.catalog(), key.schema(), key.table());
 
             if (res instanceof Ok(Table value)) {
-                var expiresAt = System.nanoTime() + TTL_NANOS;
-                CACHE.set(index, new CachedTable(value, expiresAt, dataSourceId));
+                var now = System.nanoTime();
+                CACHE.put(key, value, now + TTL_NANOS, now + TTL_NANOS + STALE_NANOS);
+                markDirty(key.dataSourceId());
             }
 
             return res;
         } catch (SQLException e) {
-            return new Err<>(new SchemaVerificationException(TABLE_NOT_FOUND.formatted(cat, schema, table), e));
+            return new Err<>(new SchemaVerificationException(TABLE_NOT_FOUND.formatted(key.catalog(), key.schema(), key.table()), e));
+        } finally {
+            CACHE.recordLoad(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Loads every table and view of {@code schema} with one {@code getTables} and one wildcard {@code getColumns}
+     * call and caches them under the given catalog and schema, i.e. for table refs that name this schema. If {@code schema} is the current
+     * schema of the connection, the tables are also cached for unqualified refs ({@link TableRef.Base}), which
+     * otherwise still resolve on first use. Tables beyond the cache capacity are evicted as usual.
+     *
+     * @return number of loaded tables
+     */
+    public static Result<Integer, SchemaVerificationException> preload(
+            @Nullable String catalog, String schema, DataSource dataSource) {
+
+        requireNonNull(schema, "Schema cannot be null");
+        requireNonNull(dataSource, "DataSource cannot be null");
+
+        return loadSchema(catalog, schema, dataSource)
+                .map(entries -> (int) entries.stream().filter(entry -> entry.schema() != null).count());
+    }
+
+    /**
+     * @return every cache entry written, including the ones for unqualified refs
+     */
+    private static Result<List<SchemaSnapshot.Entry>, SchemaVerificationException> loadSchema(
+            @Nullable String catalog, String schema, DataSource dataSource) {
+
+        var dataSourceId = System.identityHashCode(dataSource);
+        var start = System.nanoTime();
+        try (Connection conn = dataSource.getConnection()) {
+            var meta = conn.getMetaData();
+            var pattern = escape(schema, meta.getSearchStringEscape());
+
+            // getColumns has no type filter, restrict it to the tables and views the lazy path resolves
+            var wanted = new HashSet<List<String>>();
+            try (var rs = meta.getTables(catalog, pattern, null, SCHEM_TYPES)) {
+                while (rs.next()) wanted.add(Arrays.asList(asStrOrNull(schem(rs)), rs.getString(Meta.TABLE_NAME.toString())));
+            }
+
+            var tables = new LinkedHashMap<List<String>, PreloadedTable>();
+            try (var rs = meta.getColumns(catalog, pattern, null, null)) {
+                while (rs.next()) {
+                    var name = rs.getString(Meta.TABLE_NAME.toString());
+                    var schem = schem(rs);
+                    var id = Arrays.asList(asStrOrNull(schem), name);
+                    if (!wanted.contains(id)) continue;
+
+                    var table = tables.get(id);
+                    if (table == null) {
+                        table = new PreloadedTable(cat(rs), schem, name, new ArrayList<>());
+                        tables.put(id, table);
+                    }
+                    column(rs, table.columns());
+                }
+            }
+
+            var unqualified = isCurrentSchema(conn, catalog, schema);
+            var entries = new ArrayList<SchemaSnapshot.Entry>(unqualified ? 2 * tables.size() : tables.size());
+            for (var table : tables.values()) {
+                var resolved = new Table(table.catalog(), table.schema(), table.name(), table.columns().toArray(new Column[0]));
+                entries.add(new SchemaSnapshot.Entry(catalog, schema, resolved));
+                if (unqualified) entries.add(new SchemaSnapshot.Entry(null, null, resolved));
+            }
+
+            cache(entries, dataSourceId);
+            markDirty(dataSourceId);
+            return new Ok<>(entries);
+        } catch (SQLException e) {
+            return new Err<>(new SchemaVerificationException(PRELOAD_FAILED.formatted(catalog, schema), e));
+        } finally {
+            CACHE.recordLoad(System.nanoTime() - start);
+        }
+    }
+
+    private record PreloadedTable(Catalog catalog, Schema schema, String name, List<Column> columns) {}
+
+    /**
+     * Escapes the pattern characters of a schema name, {@code getColumns} takes a LIKE pattern.
+     */
+    private static String escape(String schema, @Nullable String escape) {
+        if (escape == null || escape.isEmpty()) return schema;
+
+        return schema.replace(escape, escape + escape)
+                .replace("_", escape + "_")
+                .replace("%", escape + "%");
+    }
+
+    private static boolean isCurrentSchema(Connection conn, @Nullable String catalog, String schema) {
+        try {
+            return schema.equals(conn.getSchema()) && (catalog == null || catalog.equals(conn.getCatalog()));
+        } catch (SQLException _) {
+            return false;
+        }
+    }
+
+    /**
+     * Restores {@code snapshot}, then preloads the {@code schemas} (as {@code schema} or {@code catalog.schema})
+     * it does not cover and writes the snapshot again if anything was added. Without a usable snapshot every
+     * schema is preloaded. Failures only mean that the tables are resolved lazily on first use.
+     *
+     * <p>Tables resolved lazily later are written to {@code snapshot} by the sweeper and by {@link #close()}.</p>
+     */
+    public static void warmUp(String[] schemas, @Nullable Path snapshot, DataSource dataSource) {
+        requireNonNull(schemas, "Schemas cannot be null");
+        requireNonNull(dataSource, "DataSource cannot be null");
+
+        var persisted = snapshot == null ? null : register(snapshot, dataSource);
+        var contents = persisted == null ? null : restoreContents(persisted, dataSource);
+        var restored = new LinkedHashSet<List<String>>();
+        if (contents != null) {
+            for (var entry : contents.entries()) restored.add(Arrays.asList(entry.catalog(), entry.schema()));
+        }
+
+        var loaded = new ArrayList<SchemaSnapshot.Entry>();
+        for (var spec : schemas) {
+            var dot = spec.indexOf('.');
+            var catalog = dot < 0 ? null : spec.substring(0, dot).trim();
+            var schema = spec.substring(dot + 1).trim();
+            if (restored.contains(Arrays.asList(catalog, schema))) continue;
+
+            if (loadSchema(catalog, schema, dataSource) instanceof Ok(List<SchemaSnapshot.Entry> entries))
+                loaded.addAll(entries);
+        }
+
+        if (snapshot == null) return;
+        if (contents != null) {
+            Thread.startVirtualThread(() -> revalidate(snapshot, contents, loaded, dataSource));
+            return;
+        }
+        if (snapshot(snapshot, dataSource) instanceof Ok) DIRTY.remove(System.identityHashCode(dataSource));
+    }
+
+    /**
+     * Writes the cached tables of {@code dataSource} to {@code file}, keyed by a hash of the data source URL.
+     *
+     * @return number of written tables
+     */
+    public static Result<Integer, SchemaVerificationException> snapshot(Path file, DataSource dataSource) {
+        requireNonNull(file, "Snapshot file cannot be null");
+        requireNonNull(dataSource, "DataSource cannot be null");
+
+        try {
+            var dataSourceId = System.identityHashCode(dataSource);
+            var entries = cachedEntries(dataSourceId);
+            write(dataSourceId, file, source(dataSource), entries);
+            return new Ok<>(entries.size());
+        } catch (SQLException | IOException e) {
+            return new Err<>(new SchemaVerificationException(SNAPSHOT_FAILED.formatted(file), e));
+        }
+    }
+
+    /**
+     * Fills the cache from a snapshot written for the same data source URL, then revalidates it on a virtual
+     * thread: schemas are reloaded with {@link #preload}, single tables are reloaded, and the snapshot is
+     * rewritten from what was actually loaded when that differs, so dropped tables leave it. Tables resolved
+     * lazily later are written to {@code file} by the sweeper and by {@link #close()}.
+     *
+     * @return number of restored tables, {@code 0} when there is no usable snapshot
+     */
+    public static Result<Integer, SchemaVerificationException> restore(Path file, DataSource dataSource) {
+        requireNonNull(file, "Snapshot file cannot be null");
+        requireNonNull(dataSource, "DataSource cannot be null");
+
+        try {
+            var contents = cacheSnapshot(persist(file, dataSource), dataSource);
+            if (contents == null) return new Ok<>(0);
+
+            Thread.startVirtualThread(() -> revalidate(file, contents, List.of(), dataSource));
+            return new Ok<>(contents.entries().size());
+        } catch (SQLException | IOException e) {
+            return new Err<>(new SchemaVerificationException(SNAPSHOT_FAILED.formatted(file), e));
+        }
+    }
+
+    private static @Nullable Persisted register(Path file, DataSource dataSource) {
+        try {
+            return persist(file, dataSource);
+        } catch (SQLException _) {
+            return null;
         }
     }
 
-    private static void cleanup() {
-        for (var i = 0; i < CACHE_SIZE; i++) {
-            var cache = CACHE.get(i);
-            if (cache != null && cache.isExpired()) CACHE.compareAndSet(i, cache, null);
+    /**
+     * Registers {@code file} for {@code dataSource}. The first registration also installs a shutdown hook that
+     * writes pending snapshots, so lazily resolved tables are kept even without a sweeper or {@link #close()};
+     * the source is resolved here because the pool may already be closed by then.
+     */
+    private static Persisted persist(Path file, DataSource dataSource) throws SQLException {
+        var persisted = new Persisted(file, source(dataSource));
+        SNAPSHOTS.put(System.identityHashCode(dataSource), persisted);
+
+        if (SHUTDOWN_FLUSH.compareAndSet(false, true))
+            Runtime.getRuntime().addShutdownHook(new Thread(SchemaResolver::flushSnapshots, "jetquerious-schema-snapshot"));
+        return persisted;
+    }
+
+    private static @Nullable SchemaSnapshot.Contents restoreContents(Persisted persisted, DataSource dataSource) {
+        try {
+            return cacheSnapshot(persisted, dataSource);
+        } catch (IOException _) {
+            return null;
         }
     }
 
-    private static int index(String catalog, String schema, String table, int dataSourceId) {
-        int h = 17;
-        h = 31 * h + (catalog != null ? catalog.hashCode() : 0);
-        h = 31 * h + (schema != null ? schema.hashCode() : 0);
-        h = 31 * h + (table != null ? table.hashCode() : 0);
-        h = 31 * h + dataSourceId;
-        return (h & 0x7FFFFFFF) & (CACHE_SIZE - 1);
+    private static @Nullable SchemaSnapshot.Contents cacheSnapshot(Persisted persisted, DataSource dataSource) throws IOException {
+        var dataSourceId = System.identityHashCode(dataSource);
+        var contents = SchemaSnapshot.read(persisted.file(), persisted.source());
+        if (contents != null) {
+            cache(contents.entries(), dataSourceId);
+            WRITTEN.put(dataSourceId, contents.fingerprint());
+        }
+        return contents;
+    }
+
+    private static void markDirty(int dataSourceId) {
+        if (SNAPSHOTS.containsKey(dataSourceId)) DIRTY.add(dataSourceId);
+    }
+
+    /**
+     * Writes the registered snapshots whose cache was loaded into since they were last written. Reloads that
+     * return the same metadata, e.g. background refreshes, leave the fingerprint and therefore the file
+     * unchanged. A failed write stays pending for the next flush.
+     */
+    static void flushSnapshots() {
+        for (var dataSourceId : DIRTY) {
+            var persisted = SNAPSHOTS.get(dataSourceId);
+            if (persisted == null || !DIRTY.remove(dataSourceId)) continue;
+
+            var entries = cachedEntries(dataSourceId);
+            var written = WRITTEN.get(dataSourceId);
+            if (written != null && written == SchemaSnapshot.fingerprint(entries)) continue;
+
+            try {
+                write(dataSourceId, persisted.file(), persisted.source(), entries);
+            } catch (IOException _) {
+                DIRTY.add(dataSourceId);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code entries} to {@code file} and remembers their fingerprint if it is the registered snapshot.
+     */
+    private static void write(int dataSourceId, Path file, String source, List<SchemaSnapshot.Entry> entries)
+            throws IOException {
+
+        SchemaSnapshot.write(file, source, entries);
+
+        var persisted = SNAPSHOTS.get(dataSourceId);
+        if (persisted != null && persisted.file().equals(file))
+            WRITTEN.put(dataSourceId, SchemaSnapshot.fingerprint(entries));
+    }
+
+    /**
+     * Reloads everything the snapshot holds and rewrites it from the reloaded tables plus {@code loaded}.
+     * Keeps the snapshot as is when the metadata cannot be read.
+     */
+    static void revalidate(Path file, SchemaSnapshot.Contents contents, List<SchemaSnapshot.Entry> loaded,
+                           DataSource dataSource) {
+
+        var dataSourceId = System.identityHashCode(dataSource);
+        var entries = new LinkedHashMap<TableCache.Key, SchemaSnapshot.Entry>();
+        for (var entry : loaded) entries.put(key(entry, dataSourceId), entry);
+
+        var schemas = new LinkedHashSet<List<String>>();
+        var tables = new ArrayList<SchemaSnapshot.Entry>();
+        for (var entry : contents.entries()) {
+            if (entry.schema() != null) schemas.add(Arrays.asList(entry.catalog(), entry.schema()));
+            else tables.add(entry);
+        }
+
+        for (var schema : schemas) {
+            if (!(loadSchema(schema.get(0), schema.get(1), dataSource) instanceof Ok(List<SchemaSnapshot.Entry> reloaded)))
+                return;
+
+            for (var entry : reloaded) entries.put(key(entry, dataSourceId), entry);
+        }
+
+        for (var entry : tables) {
+            var key = key(entry, dataSourceId);
+            if (entries.containsKey(key)) continue;
+
+            switch (fetch(key, dataSource)) {
+                case Ok(Table table) -> entries.put(key, new SchemaSnapshot.Entry(entry.catalog(), null, table));
+                // a cause means the metadata could not be read, without one the table is gone
+                case Err(SchemaVerificationException e) -> {
+                    if (e.getCause() != null) return;
+                }
+            }
+        }
+
+        var revalidated = new ArrayList<>(entries.values());
+        revalidated.sort(SNAPSHOT_ORDER);
+
+        try {
+            if (SchemaSnapshot.fingerprint(revalidated) != contents.fingerprint())
+                write(dataSourceId, file, source(dataSource), revalidated);
+        } catch (SQLException | IOException _) {
+            // the next snapshot or restore retries
+        }
+    }
+
+    private static void cache(List<SchemaSnapshot.Entry> entries, int dataSourceId) {
+        var now = System.nanoTime();
+        for (var entry : entries)
+            CACHE.put(key(entry, dataSourceId), entry.table(), now + TTL_NANOS, now + TTL_NANOS + STALE_NANOS);
+    }
+
+    private static TableCache.Key key(SchemaSnapshot.Entry entry, int dataSourceId) {
+        return new TableCache.Key(entry.catalog(), entry.schema(), entry.table().name(), dataSourceId);
+    }
+
+    private static List<SchemaSnapshot.Entry> cachedEntries(int dataSourceId) {
+        var entries = new ArrayList<SchemaSnapshot.Entry>();
+        CACHE.forEach((key, table) -> {
+            if (key.dataSourceId() == dataSourceId) entries.add(new SchemaSnapshot.Entry(key.catalog(), key.schema(), table));
+        });
+
+        entries.sort(SNAPSHOT_ORDER);
+        return entries;
+    }
+
+    /**
+     * Identifies the database of a snapshot without storing the URL, which may carry credentials.
+     */
+    private static String source(DataSource dataSource) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            return SchemaSnapshot.source(String.valueOf(conn.getMetaData().getURL()));
+        }
+    }
+
+    public static TableCache.Stats stats() {
+        return CACHE.stats();
+    }
+
+    /**
+     * Starts a virtual thread that removes expired entries and writes pending snapshots every {@code interval}.
+     * Optional: expired entries are also dropped when they are looked up and replaced when their slot is needed,
+     * and snapshots are written on {@link #close()}, so without a sweeper idle instances do no work at all. Does
+     * nothing if a sweeper is already running.
+     */
+    public static void startSweeper(Duration interval) {
+        requireNonNull(interval, "Interval cannot be null");
+        if (interval.isNegative() || interval.isZero())
+            throw new IllegalArgumentException("Sweep interval must be positive, was: " + interval);
+
+        var sweeper = Thread.ofVirtual().name("jetquerious-schema-sweeper").unstarted(() -> sweep(interval));
+        if (SWEEPER.compareAndSet(null, sweeper)) sweeper.start();
+    }
+
+    static @Nullable Thread sweeper() {
+        return SWEEPER.get();
+    }
+
+    public static void stopSweeper() {
+        var sweeper = SWEEPER.getAndSet(null);
+        if (sweeper == null) return;
+
+        sweeper.interrupt();
+        try {
+            sweeper.join();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stops the sweeper, writes pending snapshots and drops every cached table and snapshot registration; the
+     * resolver stays usable and reloads on demand.
+     */
+    public static void close() {
+        stopSweeper();
+        flushSnapshots();
+        SNAPSHOTS.clear();
+        DIRTY.clear();
+        WRITTEN.clear();
+        CACHE.clear();
+    }
+
+    private static void sweep(Duration interval) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException _) {
+                return;
+            }
+            CACHE.expire();
+            flushSnapshots();
+        }
     }
 
     private static Result<Table, SchemaVerificationException> table(
@@ -0,0 +1,206 @@
+package io.github.hacihaciyev.schema.internal;
+
+import io.github.hacihaciyev.types.SQLType;
+import io.github.hacihaciyev.util.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static io.github.hacihaciyev.schema.internal.Table.Catalog;
+import static io.github.hacihaciyev.schema.internal.Table.Schema;
+
+/**
+ * Compact binary file of resolved tables, used to warm the schema cache without metadata round trips.
+ *
+ * <p>Layout: magic, version, source, fingerprint, then the entries. The source is a SHA-256 hash of the data
+ * source URL, so credentials in the URL never reach the file. The fingerprint is the CRC32 of the entry bytes;
+ * it rejects truncated or corrupted files and tells whether a revalidated schema differs from the stored one.
+ * A snapshot of another source, version or with a wrong fingerprint reads as absent.</p>
+ *
+ * <p>Files are read memory-mapped and replaced atomically on write.</p>
+ */
+final class SchemaSnapshot {
+
+    private static final int MAGIC = 0x4A515353;
+
+    private static final int VERSION = 1;
+
+    private static final byte KNOWN = 1;
+
+    private static final byte UNKNOWN = 0;
+
+    /**
+     * A cached table with the catalog and schema it was requested with.
+     */
+    record Entry(@Nullable String catalog, @Nullable String schema, Table table) {}
+
+    record Contents(long fingerprint, List<Entry> entries) {}
+
+    private SchemaSnapshot() {}
+
+    static long fingerprint(List<Entry> entries) {
+        var crc = new CRC32();
+        crc.update(encode(entries));
+        return crc.getValue();
+    }
+
+    static String source(String url) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void write(Path file, String source, List<Entry> entries) throws IOException {
+        var payload = encode(entries);
+        var crc = new CRC32();
+        crc.update(payload);
+
+        var out = new ByteArrayOutputStream(payload.length + 64);
+        try (var data = new DataOutputStream(out)) {
+            data.writeInt(MAGIC);
+            data.writeInt(VERSION);
+            writeString(data, source);
+            data.writeLong(crc.getValue());
+            data.write(payload);
+        }
+
+        var dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+
+        var tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tmp, out.toByteArray());
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    static @Nullable Contents read(Path file, String source) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) return null;
+            if (!source.equals(readString(buffer))) return null;
+
+            var fingerprint = buffer.getLong();
+            var crc = new CRC32();
+            crc.update(buffer.slice());
+            if (crc.getValue() != fingerprint) return null;
+
+            return new Contents(fingerprint, decode(buffer));
+        } catch (NoSuchFileException _) {
+            return null;
+        } catch (BufferUnderflowException | IllegalArgumentException _) {
+            return null;
+        }
+    }
+
+    private static byte[] encode(List<Entry> entries) {
+        var out = new ByteArrayOutputStream(entries.size() * 256);
+        try (var data = new DataOutputStream(out)) {
+            data.writeInt(entries.size());
+            for (var entry : entries) {
+                var table = entry.table();
+                writeString(data, entry.catalog());
+                writeString(data, entry.schema());
+                writeString(data, table.catalog() instanceof Catalog.Known(var name) ? name : null);
+                writeString(data, table.schema() instanceof Schema.Known(var name) ? name : null);
+                writeString(data, table.name());
+
+                data.writeInt(table.columns().length);
+                for (var column : table.columns()) {
+                    writeString(data, column.name());
+                    data.writeBoolean(column.nullable());
+                    if (column instanceof Column.Known known) {
+                        data.writeByte(KNOWN);
+                        writeString(data, known.type().name());
+                    } else {
+                        data.writeByte(UNKNOWN);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<Entry> decode(ByteBuffer buffer) {
+        var count = readCount(buffer);
+        var entries = new ArrayList<Entry>(count);
+
+        for (int i = 0; i < count; i++) {
+            var requestedCatalog = readString(buffer);
+            var requestedSchema = readString(buffer);
+            var catalog = readString(buffer);
+            var schema = readString(buffer);
+            var name = readString(buffer);
+
+            var columns = new Column[readCount(buffer)];
+            for (int c = 0; c < columns.length; c++) {
+                var columnName = readString(buffer);
+                var nullable = buffer.get() != 0;
+                columns[c] = buffer.get() == KNOWN
+                        ? new Column.Known(columnName, SQLType.valueOf(readString(buffer)), nullable)
+                        : new Column.Unknown(columnName, nullable);
+            }
+
+            var table = new Table(
+                    catalog == null ? new Catalog.Unknown() : new Catalog.Known(catalog),
+                    schema == null ? new Schema.Unknown() : new Schema.Known(schema),
+                    name, columns);
+            entries.add(new Entry(requestedCatalog, requestedSchema, table));
+        }
+        return entries;
+    }
+
+    private static void writeString(DataOutputStream data, @Nullable String value) throws IOException {
+        if (value == null) {
+            data.writeInt(-1);
+            return;
+        }
+
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static @Nullable String readString(ByteBuffer buffer) {
+        var length = buffer.getInt();
+        if (length < 0) return null;
+        if (length > buffer.remaining()) throw new BufferUnderflowException();
+
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Every counted element takes at least one byte, so a count beyond the remaining bytes can only come from a
+     * corrupted or foreign file and must not size an allocation.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        var count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) throw new BufferUnderflowException();
+        return count;
+    }
+}
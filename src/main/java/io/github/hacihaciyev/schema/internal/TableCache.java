@@ -0,0 +1,207 @@
+package io.github.hacihaciyev.schema.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Bounded, set-associative cache of resolved tables.
+ *
+ * <p>A key hashes to a set of {@value #WAYS} slots instead of a single one, so a few hot tables that collide
+ * no longer evict each other. Inside a set the victim is chosen with CLOCK: a hit marks the entry as
+ * referenced, the hand skips (and clears) referenced entries and evicts the first one that was not used since
+ * the last pass.</p>
+ *
+ * <p>An entry is fresh until {@code refreshAt} and stale until {@code expiresAt}; stale entries are still returned,
+ * flagged, so the caller can serve them while it reloads.</p>
+ *
+ * <p>Reads are lock-free. Insertions hold a per-set lock, so concurrent loaders of one key never occupy two slots
+ * of a set and a full set always makes room by overwriting its CLOCK victim.</p>
+ */
+public final class TableCache {
+
+    static final int WAYS = 4;
+
+    private final int sets;
+
+    private final int ways;
+
+    private final AtomicReferenceArray<Entry> slots;
+
+    private final int[] hands;
+
+    private final Object[] locks;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder loadNanos = new LongAdder();
+
+    record Key(String catalog, String schema, String table, int dataSourceId) {}
+
+    record Cached(Table table, boolean stale) {}
+
+    /**
+     * Point-in-time counters; {@code loadNanos} is the total time spent in metadata round trips.
+     */
+    public record Stats(long hits, long misses, long evictions, long loads, long loadNanos) {
+
+        public double hitRate() {
+            var requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+
+        public long averageLoadNanos() {
+            return loads == 0 ? 0 : loadNanos / loads;
+        }
+    }
+
+    private static final class Entry {
+        final Key key;
+        final Table table;
+        final long refreshAt;
+        final long expiresAt;
+        volatile boolean referenced;
+
+        Entry(Key key, Table table, long refreshAt, long expiresAt) {
+            this.key = key;
+            this.table = table;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isStale(long now) {
+            return now - refreshAt > 0;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+
+    TableCache(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive.");
+
+        this.ways = Math.min(WAYS, capacity);
+        this.sets = Math.max(1, capacity / ways);
+        this.slots = new AtomicReferenceArray<>(sets * ways);
+        this.hands = new int[sets];
+        this.locks = new Object[sets];
+        for (int i = 0; i < sets; i++) locks[i] = new Object();
+    }
+
+    Cached get(Key key) {
+        var base = base(key);
+        var now = System.nanoTime();
+
+        for (int i = base; i < base + ways; i++) {
+            var entry = slots.get(i);
+            if (entry == null || !entry.key.equals(key)) continue;
+
+            if (entry.isExpired(now)) {
+                slots.compareAndSet(i, entry, null);
+                break;
+            }
+
+            if (!entry.referenced) entry.referenced = true;
+            hits.increment();
+            return new Cached(entry.table, entry.isStale(now));
+        }
+
+        misses.increment();
+        return null;
+    }
+
+    void put(Key key, Table table, long refreshAt, long expiresAt) {
+        var base = base(key);
+        var entry = new Entry(key, table, refreshAt, expiresAt);
+
+        synchronized (locks[base / ways]) {
+            int free = -1;
+            for (int i = base; i < base + ways; i++) {
+                var current = slots.get(i);
+                if (current == null) {
+                    if (free < 0) free = i;
+                    continue;
+                }
+
+                if (current.key.equals(key)) {
+                    slots.set(i, entry);
+                    return;
+                }
+            }
+
+            if (free >= 0) {
+                slots.set(free, entry);
+                return;
+            }
+
+            evict(base, entry);
+        }
+    }
+
+    void recordLoad(long nanos) {
+        loads.increment();
+        loadNanos.add(nanos);
+    }
+
+    /**
+     * Removes expired entries.
+     */
+    void expire() {
+        var now = System.nanoTime();
+        for (int i = 0; i < slots.length(); i++) {
+            var entry = slots.get(i);
+            if (entry != null && entry.isExpired(now)) slots.compareAndSet(i, entry, null);
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < slots.length(); i++) slots.set(i, null);
+    }
+
+    void forEach(BiConsumer<Key, Table> action) {
+        var now = System.nanoTime();
+        for (int i = 0; i < slots.length(); i++) {
+            var entry = slots.get(i);
+            if (entry != null && !entry.isExpired(now)) action.accept(entry.key, entry.table);
+        }
+    }
+
+    Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), loads.sum(), loadNanos.sum());
+    }
+
+    /**
+     * Called with the set's lock held and every slot of the set occupied. One full turn of the hand clears all
+     * reference bits, so a victim is found within two turns unless readers keep marking entries; then the slot
+     * under the hand is overwritten anyway.
+     */
+    private void evict(int base, Entry entry) {
+        var set = base / ways;
+
+        int i = base;
+        for (int attempt = 0; attempt < 2 * ways; attempt++) {
+            i = base + hands[set];
+            hands[set] = (hands[set] + 1) % ways;
+
+            var victim = slots.get(i);
+            if (victim == null || !victim.referenced) break;
+
+            victim.referenced = false;
+        }
+
+        if (slots.getAndSet(i, entry) != null) evictions.increment();
+    }
+
+    private int base(Key key) {
+        var h = key.hashCode();
+        h ^= h >>> 16;
+        return Math.floorMod(h, sets) * ways;
+    }
+}
@@ -1,23 +1,55 @@
 package io.github.hacihaciyev.sql;
 
+import static io.github.hacihaciyev.sql.Util.appendTuples;
+
 public class ChainedUpdateBuilder {
     private final StringBuilder query;
+    private final Tuples tuples;
 
     ChainedUpdateBuilder(StringBuilder query) {
+        this(query, null);
+    }
+
+    private ChainedUpdateBuilder(StringBuilder query, Tuples tuples) {
         this.query = query;
+        this.tuples = tuples;
+    }
+
+    public ChainedUpdateBuilder fromValues(String alias, String... columns) {
+        return fromValues(1, alias, columns);
+    }
+
+    /**
+     * Joins the updated table with multi-row parameters,
+     * e.g. {@code FROM (VALUES (?, ?), (?, ?) ) AS v (id, price)}; use {@link #template()} to execute it in chunks.
+     */
+    public ChainedUpdateBuilder fromValues(int rows, String alias, String... columns) {
+        if (columns.length == 0) throw new IllegalArgumentException("Columns can`t be empty.");
+        if (rows <= 0) throw new IllegalArgumentException("Rows can`t be less than 1.");
+
+        query.append("FROM (VALUES ");
+        int from = query.length();
+        appendTuples(query, rows, columns.length);
+        int to = query.length();
+        query.append(") AS ").append(alias).append(" (").append(String.join(", ", columns)).append(") ");
+        return new ChainedUpdateBuilder(query, new Tuples(from, to, columns.length));
     }
 
     public WhereUpdateBuilder where(String condition) {
         query.append("WHERE ").append(condition).append(" ");
-        return new WhereUpdateBuilder(query);
+        return new WhereUpdateBuilder(query, tuples);
     }
 
     public WhereUpdateBuilder whereNot(String condition) {
         query.append("WHERE NOT ").append(condition).append(" ");
-        return new WhereUpdateBuilder(query);
+        return new WhereUpdateBuilder(query, tuples);
     }
 
     public SQLState build() {
         return new SQLState(this.query.toString());
     }
+
+    public RowsTemplate template() {
+        return Tuples.template(query, tuples);
+    }
 }
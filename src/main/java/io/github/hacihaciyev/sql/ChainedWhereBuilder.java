@@ -2,9 +2,17 @@ package io.github.hacihaciyev.sql;
 
 public class ChainedWhereBuilder {
     private final StringBuilder query;
+    private final int conditionStart;
+    private final Tuples tuples;
 
-    ChainedWhereBuilder(StringBuilder query) {
+    ChainedWhereBuilder(StringBuilder query, int conditionStart) {
+        this(query, conditionStart, null);
+    }
+
+    ChainedWhereBuilder(StringBuilder query, int conditionStart, Tuples tuples) {
         this.query = query;
+        this.conditionStart = conditionStart;
+        this.tuples = tuples;
     }
 
     public ChainedWhereBuilder and(String condition) {
@@ -47,7 +55,19 @@ public class ChainedWhereBuilder {
         return new SQLState(this.query.toString());
     }
 
+    public KeysetQuery after(String... columns) {
+        return KeysetQuery.of(query.toString(), conditionStart, Order.ASC, columns);
+    }
+
+    public KeysetQuery after(Order order, String... columns) {
+        return KeysetQuery.of(query.toString(), conditionStart, order, columns);
+    }
+
     public SQLState build() {
         return new SQLState(this.query.toString());
     }
+
+    public RowsTemplate template() {
+        return Tuples.template(query, tuples);
+    }
 }
@@ -22,6 +22,14 @@ public class DeleteFromBuilder {
         return new WhereDeleteBuilder(query);
     }
 
+    /**
+     * Renders {@code column = ANY(?)}, a single statement for any number of keys.
+     */
+    public WhereDeleteBuilder whereAny(String column) {
+        query.append("WHERE ").append(column).append(" = ANY(?) ");
+        return new WhereDeleteBuilder(query);
+    }
+
     public SQLState build() {
         return new SQLState(this.query.toString());
     }
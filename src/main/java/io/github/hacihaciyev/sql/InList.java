@@ -0,0 +1,32 @@
+package io.github.hacihaciyev.sql;
+
+import java.util.Arrays;
+
+/**
+ * Power-of-two bucketing of {@code IN} lists.
+ *
+ * <p>Lists of 1 to 1000 values map to 11 statement shapes instead of 1000, which keeps statement
+ * and server-side plan caches effective. The padding repeats the last value, which does not
+ * change the result of an {@code IN} predicate.</p>
+ */
+public final class InList {
+
+    private InList() {}
+
+    public static int bucket(int countOfValues) {
+        if (countOfValues < 0) throw new IllegalArgumentException("Count of values can`t be negative.");
+        if (countOfValues <= 1) return countOfValues;
+        return Integer.highestOneBit(countOfValues - 1) << 1;
+    }
+
+    public static Object[] pad(Object... values) {
+        if (values == null || values.length == 0) return new Object[0];
+
+        var bucket = bucket(values.length);
+        if (bucket == values.length) return values;
+
+        var padded = Arrays.copyOf(values, bucket);
+        Arrays.fill(padded, values.length, bucket, values[values.length - 1]);
+        return padded;
+    }
+}
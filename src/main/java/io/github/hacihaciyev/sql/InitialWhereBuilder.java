@@ -1,5 +1,7 @@
 package io.github.hacihaciyev.sql;
 
+import static io.github.hacihaciyev.sql.Util.appendTuples;
+
 public class InitialWhereBuilder {
     private final StringBuilder query;
 
@@ -58,13 +60,17 @@ public class InitialWhereBuilder {
     }
 
     public ChainedWhereBuilder where(String condition) {
-        query.append("WHERE ").append(condition).append(" ");
-        return new ChainedWhereBuilder(query);
+        query.append("WHERE ");
+        int conditionStart = query.length();
+        query.append(condition).append(" ");
+        return new ChainedWhereBuilder(query, conditionStart);
     }
 
     public ChainedWhereBuilder whereNot(String condition) {
-        query.append("WHERE NOT ").append(condition).append(" ");
-        return new ChainedWhereBuilder(query);
+        query.append("WHERE ");
+        int conditionStart = query.length();
+        query.append("NOT ").append(condition).append(" ");
+        return new ChainedWhereBuilder(query, conditionStart);
     }
 
     public ChainedWhereBuilder whereIn(String condition, int countOfValues) {
@@ -72,10 +78,12 @@ public class InitialWhereBuilder {
             return where(condition);
         }
 
-        query.append("WHERE ").append(condition).append(" ");
+        query.append("WHERE ");
+        int conditionStart = query.length();
+        query.append(condition).append(" ");
 
         query.append("IN(");
-        for (int i = 0; i < countOfValues - 1; i++) {
+        for (int i = 0; i < countOfValues; i++) {
             query.append("?");
             if (i < countOfValues - 1) {
                 query.append(", ");
@@ -83,7 +91,43 @@ public class InitialWhereBuilder {
         }
         query.append(") ");
 
-        return new ChainedWhereBuilder(query);
+        return new ChainedWhereBuilder(query, conditionStart);
+    }
+
+    /**
+     * Renders {@link InList#bucket(int)} placeholders, so lists of similar size share one statement.
+     * Bind the values padded with {@link InList#pad(Object...)}.
+     */
+    public ChainedWhereBuilder whereInBucketed(String condition, int countOfValues) {
+        return whereIn(condition, InList.bucket(countOfValues));
+    }
+
+    /**
+     * Renders {@code condition = ANY(?)}, a single statement for any list size.
+     * Bind the values as one {@link io.github.hacihaciyev.types.AsArray} parameter.
+     */
+    public ChainedWhereBuilder whereAny(String condition) {
+        query.append("WHERE ");
+        int conditionStart = query.length();
+        query.append(condition).append(" = ANY(?) ");
+        return new ChainedWhereBuilder(query, conditionStart);
+    }
+
+    /**
+     * Renders a row-value {@code (a, b) IN ((?, ?) )} predicate; use {@code template()} on the result
+     * to render it for any number of keys.
+     */
+    public ChainedWhereBuilder whereRowIn(String... columns) {
+        if (columns.length == 0) throw new IllegalArgumentException("Columns can`t be empty.");
+
+        query.append("WHERE ");
+        int conditionStart = query.length();
+        query.append("(").append(String.join(", ", columns)).append(") IN (");
+        int from = query.length();
+        appendTuples(query, 1, columns.length);
+        int to = query.length();
+        query.append(") ");
+        return new ChainedWhereBuilder(query, conditionStart, new Tuples(from, to, columns.length));
     }
 
     public GroupByBuilder groupBy(String... columns) {
@@ -116,6 +160,14 @@ public class InitialWhereBuilder {
         return new SQLState(this.query.toString());
     }
 
+    public KeysetQuery after(String... columns) {
+        return KeysetQuery.of(query.toString(), -1, Order.ASC, columns);
+    }
+
+    public KeysetQuery after(Order order, String... columns) {
+        return KeysetQuery.of(query.toString(), -1, order, columns);
+    }
+
     public SQLState build() {
         return new SQLState(this.query.toString());
     }
@@ -0,0 +1,93 @@
+package io.github.hacihaciyev.sql;
+
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Seek (keyset) pagination over an ordered, unique key.
+ *
+ * <p>{@link #first()} reads the first page, {@link #next()} continues after the key of the last row read,
+ * so every page is an index range scan instead of an {@code OFFSET} scan. Parameters are bound in order:
+ * the query's own parameters, then (for {@link #next()}) the key values, then the page size.</p>
+ */
+public final class KeysetQuery {
+    private final SQLState first;
+    private final SQLState next;
+    private final String[] columns;
+    private final String[] labels;
+
+    private KeysetQuery(SQLState first, SQLState next, String[] columns, String[] labels) {
+        this.first = first;
+        this.next = next;
+        this.columns = columns;
+        this.labels = labels;
+    }
+
+    static KeysetQuery of(String query, int conditionStart, Order order, String... columns) {
+        requireNonNull(order, "Order can`t be null.");
+        if (columns == null || columns.length == 0) throw new IllegalArgumentException("Key columns can`t be empty.");
+
+        var keys = String.join(", ", columns);
+        var orderBy = new StringBuilder("ORDER BY ");
+        for (int i = 0; i < columns.length; i++) {
+            orderBy.append(columns[i]).append(" ").append(order);
+            if (i < columns.length - 1) orderBy.append(", ");
+        }
+        orderBy.append(" LIMIT ? ");
+
+        var predicate = new StringBuilder("(").append(keys).append(") ").append(order == Order.ASC ? ">" : "<").append(" (");
+        for (int i = 0; i < columns.length; i++) {
+            predicate.append("?");
+            if (i < columns.length - 1) predicate.append(", ");
+        }
+        predicate.append(") ");
+
+        var next = new StringBuilder(query.length() + predicate.length() + orderBy.length() + 8);
+        if (conditionStart < 0) {
+            next.append(query).append("WHERE ").append(predicate);
+        } else {
+            next.append(query, 0, conditionStart)
+                    .append("(").append(query.substring(conditionStart).stripTrailing()).append(") ")
+                    .append("AND ").append(predicate);
+        }
+        next.append(orderBy);
+
+        var labels = Arrays.stream(columns)
+                .map(column -> column.substring(column.lastIndexOf('.') + 1))
+                .toArray(String[]::new);
+
+        return new KeysetQuery(new SQLState(query + orderBy), new SQLState(next.toString()), columns.clone(), labels);
+    }
+
+    public SQLState first() {
+        return first;
+    }
+
+    public SQLState next() {
+        return next;
+    }
+
+    public String[] columns() {
+        return columns.clone();
+    }
+
+    /**
+     * Result set labels the key values are read from. Defaults to the key columns without a table qualifier.
+     */
+    public String[] labels() {
+        return labels.clone();
+    }
+
+    /**
+     * Reads the key values from the given labels, one per key column. Needed when a key is an expression or is
+     * selected under an alias, e.g. {@code after("lower(u.name)", "u.id").withLabels("name_key", "id")}.
+     */
+    public KeysetQuery withLabels(String... labels) {
+        if (labels == null || labels.length != columns.length)
+            throw new IllegalArgumentException("Expected %d key labels.".formatted(columns.length));
+        for (var label : labels) requireNonNull(label, "Key label can`t be null.");
+
+        return new KeysetQuery(first, next, columns, labels.clone());
+    }
+}
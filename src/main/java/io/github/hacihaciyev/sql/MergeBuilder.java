@@ -0,0 +1,61 @@
+package io.github.hacihaciyev.sql;
+
+import io.github.hacihaciyev.types.ArrayDefinition;
+
+import static io.github.hacihaciyev.sql.Util.appendTuples;
+import static io.github.hacihaciyev.sql.Util.appendUnnest;
+
+/**
+ * {@code MERGE INTO target USING source ON ...} with the source given as a table, a subquery,
+ * multi-row {@code VALUES} or {@code UNNEST} of array parameters.
+ *
+ * <p>A {@code VALUES} source can be turned into a {@link RowsTemplate} for chunked execution,
+ * an {@code UNNEST} source binds one array per column regardless of the row count.</p>
+ */
+public class MergeBuilder {
+    private final StringBuilder query;
+
+    private MergeBuilder(StringBuilder query) {
+        this.query = query;
+    }
+
+    static MergeBuilder merge(String target) {
+        return new MergeBuilder(new StringBuilder().append("MERGE INTO ").append(target).append(" "));
+    }
+
+    public MergeOnBuilder using(String table, String alias) {
+        query.append("USING ").append(table).append(" AS ").append(alias).append(" ");
+        return new MergeOnBuilder(query, alias, null);
+    }
+
+    public MergeOnBuilder using(SQLQuery subQuery, String alias) {
+        query.append("USING (").append(subQuery.sql()).append(") AS ").append(alias).append(" ");
+        return new MergeOnBuilder(query, alias, null);
+    }
+
+    public MergeOnBuilder usingValues(String alias, String... columns) {
+        return usingValues(1, alias, columns);
+    }
+
+    public MergeOnBuilder usingValues(int rows, String alias, String... columns) {
+        if (columns.length == 0) throw new IllegalArgumentException("Columns can`t be empty.");
+        if (rows <= 0) throw new IllegalArgumentException("Rows can`t be less than 1.");
+
+        query.append("USING (VALUES ");
+        int from = query.length();
+        appendTuples(query, rows, columns.length);
+        int to = query.length();
+        query.append(") AS ").append(alias).append(" (").append(String.join(", ", columns)).append(") ");
+        return new MergeOnBuilder(query, alias, new Tuples(from, to, columns.length));
+    }
+
+    public MergeOnBuilder usingUnnest(String alias, String[] columns, ArrayDefinition... types) {
+        if (columns.length == 0 || columns.length != types.length)
+            throw new IllegalArgumentException("Expected one array type per column.");
+
+        query.append("USING (");
+        appendUnnest(query, types);
+        query.append(") AS ").append(alias).append(" (").append(String.join(", ", columns)).append(") ");
+        return new MergeOnBuilder(query, alias, null);
+    }
+}
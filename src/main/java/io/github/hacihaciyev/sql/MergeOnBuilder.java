@@ -0,0 +1,18 @@
+package io.github.hacihaciyev.sql;
+
+public class MergeOnBuilder {
+    private final StringBuilder query;
+    private final String source;
+    private final Tuples tuples;
+
+    MergeOnBuilder(StringBuilder query, String source, Tuples tuples) {
+        this.query = query;
+        this.source = source;
+        this.tuples = tuples;
+    }
+
+    public MergeWhenBuilder on(String condition) {
+        query.append("ON ").append(condition).append(" ");
+        return new MergeWhenBuilder(query, source, tuples);
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.hacihaciyev.sql;
+
+public class MergeWhenBuilder {
+    private final StringBuilder query;
+    private final String source;
+    private final Tuples tuples;
+
+    MergeWhenBuilder(StringBuilder query, String source, Tuples tuples) {
+        this.query = query;
+        this.source = source;
+        this.tuples = tuples;
+    }
+
+    public MergeWhenBuilder whenMatchedThenUpdate(String set) {
+        query.append("WHEN MATCHED THEN UPDATE SET ").append(set).append(" ");
+        return this;
+    }
+
+    public MergeWhenBuilder whenMatchedThenUpdate(String condition, String set) {
+        query.append("WHEN MATCHED AND ").append(condition).append(" THEN UPDATE SET ").append(set).append(" ");
+        return this;
+    }
+
+    /**
+     * Sets every column to the source column of the same name, e.g. {@code name = s.name}.
+     */
+    public MergeWhenBuilder whenMatchedThenUpdateColumns(String... columns) {
+        var set = new StringBuilder();
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) set.append(", ");
+            set.append(columns[i]).append(" = ").append(source).append(".").append(columns[i]);
+        }
+        return whenMatchedThenUpdate(set.toString());
+    }
+
+    public MergeWhenBuilder whenMatchedThenDelete() {
+        query.append("WHEN MATCHED THEN DELETE ");
+        return this;
+    }
+
+    public MergeWhenBuilder whenMatchedThenDelete(String condition) {
+        query.append("WHEN MATCHED AND ").append(condition).append(" THEN DELETE ");
+        return this;
+    }
+
+    public MergeWhenBuilder whenMatchedThenDoNothing() {
+        query.append("WHEN MATCHED THEN DO NOTHING ");
+        return this;
+    }
+
+    /**
+     * Inserts the source columns of the same names, e.g. {@code INSERT (id, name) VALUES (s.id, s.name)}.
+     */
+    public MergeWhenBuilder whenNotMatchedThenInsert(String... columns) {
+        var values = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) values[i] = source + "." + columns[i];
+        return whenNotMatchedThenInsert(columns, values);
+    }
+
+    public MergeWhenBuilder whenNotMatchedThenInsert(String[] columns, String[] values) {
+        if (columns.length == 0 || columns.length != values.length)
+            throw new IllegalArgumentException("Expected one value per column.");
+
+        query.append("WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", columns))
+                .append(") VALUES (").append(String.join(", ", values)).append(") ");
+        return this;
+    }
+
+    public MergeWhenBuilder whenNotMatchedThenDoNothing() {
+        query.append("WHEN NOT MATCHED THEN DO NOTHING ");
+        return this;
+    }
+
+    public SQLState build() {
+        return new SQLState(this.query.toString());
+    }
+
+    public RowsTemplate template() {
+        return Tuples.template(query, tuples);
+    }
+}
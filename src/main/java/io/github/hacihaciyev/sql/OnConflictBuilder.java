@@ -2,16 +2,18 @@ package io.github.hacihaciyev.sql;
 
 public class OnConflictBuilder {
     private final StringBuilder query;
+    private final Tuples tuples;
 
-    OnConflictBuilder(StringBuilder query) {
+    OnConflictBuilder(StringBuilder query, Tuples tuples) {
         this.query = query;
+        this.tuples = tuples;
     }
 
     public ReturningBuilder doUpdateSet(String doUpdateSet) {
-        return new ReturningBuilder(query.append("DO UPDATE SET ").append(doUpdateSet).append(" "));
+        return new ReturningBuilder(query.append("DO UPDATE SET ").append(doUpdateSet).append(" "), tuples);
     }
 
     public ReturningBuilder doNothing() {
-        return new ReturningBuilder(query.append("DO NOTHING "));
+        return new ReturningBuilder(query.append("DO NOTHING "), tuples);
     }
 }
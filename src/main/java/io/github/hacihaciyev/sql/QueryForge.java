@@ -39,6 +39,10 @@ public class QueryForge {
         return UpdateBuilder.update(table);
     }
 
+    public static MergeBuilder merge(String target) {
+        return MergeBuilder.merge(target);
+    }
+
     public static DeleteBuilder delete() {
         return new DeleteBuilder();
     }
@@ -2,9 +2,11 @@ package io.github.hacihaciyev.sql;
 
 public class ReturningBuilder {
     private final StringBuilder query;
+    private final Tuples tuples;
 
-    ReturningBuilder(StringBuilder query) {
+    ReturningBuilder(StringBuilder query, Tuples tuples) {
         this.query = query;
+        this.tuples = tuples;
     }
 
     public SQLState returning(String... columns) {
@@ -26,4 +28,8 @@ public class ReturningBuilder {
     public SQLState build() {
         return new SQLState(this.query.toString());
     }
+
+    public RowsTemplate template() {
+        return Tuples.template(query, tuples);
+    }
 }
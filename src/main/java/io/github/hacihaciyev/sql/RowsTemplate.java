@@ -0,0 +1,82 @@
+package io.github.hacihaciyev.sql;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.hacihaciyev.sql.Util.appendTuples;
+import static io.github.hacihaciyev.sql.Util.placeholders;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * SQL with a variable number of {@code (?, ?, ...)} tuples between a fixed head and tail,
+ * e.g. a multi-row {@code INSERT ... VALUES}.
+ *
+ * <p>Only the tuples are bound, so the head and tail must not contain placeholders.
+ * Rendered SQL is cached per row count, so executing full chunks and the usual remainder
+ * sizes never re-renders the statement text.</p>
+ */
+public final class RowsTemplate {
+
+    static final int CACHED_SIZES = 32;
+
+    static final String ROW_EXCEEDS_BIND_LIMIT =
+            "A single row binds %d placeholders, more than the bind limit of %d (jetquerious.bind.limit)";
+
+    private final String head;
+
+    private final int width;
+
+    private final String tail;
+
+    private final ConcurrentHashMap<Integer, String> rendered = new ConcurrentHashMap<>();
+
+    RowsTemplate(String head, int width, String tail) {
+        this.head = head;
+        this.width = width;
+        this.tail = tail;
+    }
+
+    public static RowsTemplate of(String head, int width, String tail) {
+        requireNonNull(head, "Head cannot be null");
+        requireNonNull(tail, "Tail cannot be null");
+        if (width <= 0) throw new IllegalArgumentException("Width must be positive.");
+        if (placeholders(head) + placeholders(tail) > 0)
+            throw new IllegalArgumentException("Head and tail cannot contain placeholders.");
+
+        return new RowsTemplate(head, width, tail);
+    }
+
+    public String sql(int rows) {
+        if (rows <= 0) throw new IllegalArgumentException("Rows must be positive.");
+
+        var sql = rendered.get(rows);
+        if (sql != null) return sql;
+
+        sql = render(rows);
+        if (rendered.size() < CACHED_SIZES) rendered.putIfAbsent(rows, sql);
+        return sql;
+    }
+
+    /**
+     * Number of placeholders in one tuple.
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Largest row count whose placeholders fit into {@code bindLimit}.
+     *
+     * @throws IllegalArgumentException if not even one row fits
+     */
+    public int maxRows(int bindLimit) {
+        if (width > bindLimit) throw new IllegalArgumentException(ROW_EXCEEDS_BIND_LIMIT.formatted(width, bindLimit));
+        return bindLimit / width;
+    }
+
+    private String render(int rows) {
+        var query = new StringBuilder(head.length() + tail.length() + rows * (width * 3 + 2));
+        query.append(head);
+        appendTuples(query, rows, width);
+        return query.append(tail).toString();
+    }
+}
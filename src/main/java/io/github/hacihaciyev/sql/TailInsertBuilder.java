@@ -2,14 +2,20 @@ package io.github.hacihaciyev.sql;
 
 public class TailInsertBuilder {
     private final StringBuilder query;
+    private final Tuples tuples;
 
     TailInsertBuilder(StringBuilder query) {
+        this(query, null);
+    }
+
+    TailInsertBuilder(StringBuilder query, Tuples tuples) {
         this.query = query;
+        this.tuples = tuples;
     }
 
     public OnConflictBuilder onConflict(String... columns) {
         query.append("ON CONFLICT ").append("(").append(String.join(", ", columns)).append(") ");
-        return new OnConflictBuilder(query);
+        return new OnConflictBuilder(query, tuples);
     }
 
     public SQLState returning(String... columns) {
@@ -31,4 +37,8 @@ public class TailInsertBuilder {
     public SQLState build() {
         return new SQLState(this.query.toString());
     }
+
+    public RowsTemplate template() {
+        return Tuples.template(query, tuples);
+    }
 }
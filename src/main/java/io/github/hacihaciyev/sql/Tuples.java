@@ -0,0 +1,22 @@
+package io.github.hacihaciyev.sql;
+
+import static io.github.hacihaciyev.sql.Util.placeholders;
+
+/**
+ * Position of the rendered {@code (?, ...)} tuples inside a query, kept so the query can be turned into a {@link RowsTemplate}.
+ * A template binds only the tuples, so the rest of the query must not contain placeholders.
+ */
+record Tuples(int from, int to, int width) {
+
+    static RowsTemplate template(StringBuilder query, Tuples tuples) {
+        if (tuples == null) throw new IllegalStateException("Query has no VALUES tuples to template.");
+
+        var head = query.substring(0, tuples.from());
+        var tail = query.substring(tuples.to());
+        var outside = placeholders(head) + placeholders(tail);
+        if (outside > 0)
+            throw new IllegalStateException("Query has %d placeholders outside the tuples; a rows template binds only the tuples.".formatted(outside));
+
+        return new RowsTemplate(head, tuples.width(), tail);
+    }
+}
@@ -14,4 +14,18 @@ public class UpdateBuilder {
     public ChainedUpdateBuilder set(String condition) {
         return new ChainedUpdateBuilder(query.append("SET ").append(condition).append(" "));
     }
+
+    /**
+     * Sets every column to the column of the same name in {@code source}, e.g. {@code SET price = v.price}.
+     */
+    public ChainedUpdateBuilder setColumns(String source, String... columns) {
+        if (columns.length == 0) throw new IllegalArgumentException("Columns can`t be empty.");
+
+        query.append("SET ");
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) query.append(", ");
+            query.append(columns[i]).append(" = ").append(source).append(".").append(columns[i]);
+        }
+        return new ChainedUpdateBuilder(query.append(" "));
+    }
 }
@@ -1,5 +1,7 @@
 package io.github.hacihaciyev.sql;
 
+import io.github.hacihaciyev.types.ArrayDefinition;
+
 public class Util {
 
     private Util() {}
@@ -8,4 +10,45 @@ public class Util {
         if (query.charAt(query.length() - 1) == ',') query.deleteCharAt(query.length() - 1);
         if (query.charAt(query.length() - 2) == ',') query.deleteCharAt(query.length() - 2);
     }
+
+    static void appendTuples(StringBuilder query, int rows, int width) {
+        for (int row = 0; row < rows; row++) {
+            if (row > 0) query.append(", ");
+            query.append("(");
+            for (int i = 0; i < width; i++) {
+                query.append("?");
+                if (i < width - 1) query.append(", ");
+            }
+            query.append(")");
+        }
+        query.append(" ");
+    }
+
+    /**
+     * Counts {@code ?} placeholders, skipping quoted literals and identifiers.
+     */
+    static int placeholders(CharSequence sql) {
+        var count = 0;
+        var quote = (char) 0;
+        for (int i = 0; i < sql.length(); i++) {
+            var c = sql.charAt(i);
+            if (quote != 0) {
+                if (c == quote) quote = 0;
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static void appendUnnest(StringBuilder query, ArrayDefinition[] types) {
+        query.append("SELECT * FROM UNNEST(");
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) query.append(", ");
+            query.append("?::").append(types[i].typeName()).append("[]");
+        }
+        query.append(") ");
+    }
 }
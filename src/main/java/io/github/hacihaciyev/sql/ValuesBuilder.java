@@ -1,7 +1,12 @@
 package io.github.hacihaciyev.sql;
 
+import io.github.hacihaciyev.types.ArrayDefinition;
+
 import java.util.List;
 
+import static io.github.hacihaciyev.sql.Util.appendTuples;
+import static io.github.hacihaciyev.sql.Util.appendUnnest;
+
 public class ValuesBuilder {
     private final StringBuilder query;
     private final List<String> columnsList;
@@ -24,19 +29,34 @@ public class ValuesBuilder {
     }
 
     public TailInsertBuilder values() {
+        return values(1);
+    }
+
+    public TailInsertBuilder values(int rows) {
         int countOfValues = columnsList.size();
         if (countOfValues == 0) {
             throw new IllegalArgumentException("Values can`t be 0.");
         }
+        if (rows <= 0) {
+            throw new IllegalArgumentException("Rows can`t be less than 1.");
+        }
+
+        query.append("VALUES ");
+        int from = query.length();
+        appendTuples(query, rows, countOfValues);
+        return new TailInsertBuilder(query, new Tuples(from, query.length(), countOfValues));
+    }
 
-        query.append("VALUES ").append("(");
-        for (int i = 0; i < countOfValues; i++) {
-            query.append("?");
-            if (i < countOfValues - 1) {
-                query.append(", ");
-            }
+    /**
+     * Selects the rows from one array parameter per column, e.g. {@code SELECT * FROM UNNEST(?::bigint[], ?::text[])}.
+     * The statement text does not depend on the row count and is not subject to the bind parameter limit.
+     */
+    public TailInsertBuilder unnest(ArrayDefinition... types) {
+        if (types.length == 0 || types.length != columnsList.size()) {
+            throw new IllegalArgumentException("Expected one array type per column.");
         }
-        query.append(") ");
+
+        appendUnnest(query, types);
         return new TailInsertBuilder(query);
     }
 }
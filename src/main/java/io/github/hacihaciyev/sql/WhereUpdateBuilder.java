@@ -2,9 +2,11 @@ package io.github.hacihaciyev.sql;
 
 public class WhereUpdateBuilder {
     private final StringBuilder query;
+    private final Tuples tuples;
 
-    WhereUpdateBuilder(StringBuilder query) {
+    WhereUpdateBuilder(StringBuilder query, Tuples tuples) {
         this.query = query;
+        this.tuples = tuples;
     }
 
     public WhereUpdateBuilder and(String condition) {
@@ -24,4 +26,8 @@ public class WhereUpdateBuilder {
     public SQLState build() {
         return new SQLState(this.query.toString());
     }
+
+    public RowsTemplate template() {
+        return Tuples.template(query, tuples);
+    }
 }
@@ -1,16 +1,30 @@
 package io.github.hacihaciyev.types;
 
 public enum ArrayDefinition {
-    TEXT,
-    VARCHAR,
-    INT,
-    INTEGER,
-    BIGINT,
-    DECIMAL,
-    NUMERIC,
-    BOOLEAN,
-    UUID,
-    DATE,
-    TIME,
-    TIMESTAMP
+    TEXT("text"),
+    VARCHAR("varchar"),
+    INT("int"),
+    INTEGER("integer"),
+    BIGINT("bigint"),
+    DOUBLE("float8"),
+    DECIMAL("decimal"),
+    NUMERIC("numeric"),
+    BOOLEAN("boolean"),
+    UUID("uuid"),
+    DATE("date"),
+    TIME("time"),
+    TIMESTAMP("timestamp");
+
+    private final String typeName;
+
+    ArrayDefinition(String typeName) {
+        this.typeName = typeName;
+    }
+
+    /**
+     * Element type name as accepted by {@link java.sql.Connection#createArrayOf}.
+     */
+    public String typeName() {
+        return typeName;
+    }
 }
@@ -0,0 +1,13 @@
+package io.github.hacihaciyev.types;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Binds {@code elements} as a single SQL array created with {@link java.sql.Connection#createArrayOf}.
+ */
+public record AsArray(ArrayDefinition definition, Object[] elements) {
+    public AsArray {
+        requireNonNull(definition, "Array definition cannot be null");
+        requireNonNull(elements, "Elements cannot be null");
+    }
+}
@@ -93,13 +93,33 @@ public enum SQLType {
                     type -> type
             ));
 
+    private static final Map<String, SQLType> ALIASES = Map.ofEntries(
+            Map.entry("INT2", SMALLINT),
+            Map.entry("INT4", INTEGER),
+            Map.entry("INT8", BIGINT),
+            Map.entry("SERIAL", INTEGER),
+            Map.entry("SERIAL4", INTEGER),
+            Map.entry("BIGSERIAL", BIGINT),
+            Map.entry("SERIAL8", BIGINT),
+            Map.entry("FLOAT4", REAL),
+            Map.entry("FLOAT8", DOUBLE_PRECISION),
+            Map.entry("BOOL", BOOLEAN),
+            Map.entry("BPCHAR", CHAR),
+            Map.entry("BYTEA", VARBINARY),
+            Map.entry("TIMESTAMPTZ", TIMESTAMP_WITH_TIME_ZONE)
+    );
+
     public static Optional<SQLType> parse(String name) {
         if (name == null) return Optional.empty();
-        return Optional.ofNullable(LOOKUP.get(normalize(name)));
+        var normalized = normalize(name);
+        var type = LOOKUP.get(normalized);
+        return Optional.ofNullable(type != null ? type : ALIASES.get(normalized));
     }
 
     public static boolean contains(String name) {
-        return name != null && LOOKUP.containsKey(normalize(name));
+        if (name == null) return false;
+        var normalized = normalize(name);
+        return LOOKUP.containsKey(normalized) || ALIASES.containsKey(normalized);
     }
 
     private static String normalize(String name) {
@@ -3,7 +3,7 @@ package io.github.hacihaciyev.types;
 import java.util.Objects;
 
 /**
- * Exception thrown when a single-field record cannot be mapped
+ * Exception thrown when a record cannot be mapped
  * into natively supported types.
  *
  * <p>This is a checked exception to explicitly signal that
@@ -22,7 +22,7 @@ public class TypeInlineException extends Exception {
     }
 
     private static String errorMessage(Class<?> recordType) {
-        return String.format("Unable to map single-component record '%s'.", recordType.getName());
+        return String.format("Unable to map record '%s'.", recordType.getName());
     }
 
     public String recordTypeName() {
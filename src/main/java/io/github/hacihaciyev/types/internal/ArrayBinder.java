@@ -0,0 +1,139 @@
+package io.github.hacihaciyev.types.internal;
+
+import io.github.hacihaciyev.types.ArrayDefinition;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds Java arrays and lists as SQL arrays.
+ *
+ * <p>PostgreSQL statements accept {@code long[]}, {@code int[]} and {@code double[]} directly in
+ * {@code setObject}, which encodes them without boxing a single element. Other drivers get a
+ * {@link java.sql.Connection#createArrayOf} array of boxed elements. Whether a statement class is a
+ * PostgreSQL statement is resolved once per class.</p>
+ */
+public final class ArrayBinder {
+
+    private static final Class<?> PG_STATEMENT = pgStatement();
+
+    private static final Map<Class<?>, Boolean> NATIVE_ARRAYS = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, ArrayDefinition> ELEMENT_DEFINITIONS = Map.ofEntries(
+            Map.entry(String.class, ArrayDefinition.TEXT),
+            Map.entry(Integer.class, ArrayDefinition.INTEGER),
+            Map.entry(Long.class, ArrayDefinition.BIGINT),
+            Map.entry(Double.class, ArrayDefinition.DOUBLE),
+            Map.entry(BigDecimal.class, ArrayDefinition.NUMERIC),
+            Map.entry(Boolean.class, ArrayDefinition.BOOLEAN),
+            Map.entry(UUID.class, ArrayDefinition.UUID),
+            Map.entry(LocalDate.class, ArrayDefinition.DATE),
+            Map.entry(LocalTime.class, ArrayDefinition.TIME),
+            Map.entry(LocalDateTime.class, ArrayDefinition.TIMESTAMP)
+    );
+
+    private ArrayBinder() {}
+
+    public static void setLongs(PreparedStatement stmt, long[] values, int idx) throws SQLException {
+        if (nativeArrays(stmt)) {
+            stmt.setObject(idx, values);
+            return;
+        }
+
+        var boxed = new Long[values.length];
+        for (int i = 0; i < values.length; i++) boxed[i] = values[i];
+        setObjects(stmt, ArrayDefinition.BIGINT, boxed, idx);
+    }
+
+    public static void setInts(PreparedStatement stmt, int[] values, int idx) throws SQLException {
+        if (nativeArrays(stmt)) {
+            stmt.setObject(idx, values);
+            return;
+        }
+
+        var boxed = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) boxed[i] = values[i];
+        setObjects(stmt, ArrayDefinition.INTEGER, boxed, idx);
+    }
+
+    public static void setDoubles(PreparedStatement stmt, double[] values, int idx) throws SQLException {
+        if (nativeArrays(stmt)) {
+            stmt.setObject(idx, values);
+            return;
+        }
+
+        var boxed = new Double[values.length];
+        for (int i = 0; i < values.length; i++) boxed[i] = values[i];
+        setObjects(stmt, ArrayDefinition.DOUBLE, boxed, idx);
+    }
+
+    public static void setObjects(PreparedStatement stmt, ArrayDefinition definition, Object[] values, int idx)
+            throws SQLException {
+        stmt.setArray(idx, stmt.getConnection().createArrayOf(definition.typeName(), values));
+    }
+
+    /**
+     * The element type is taken from the first non-null element. A list without one is still bound as an
+     * array, so {@code = ANY(?)} matches no row instead of comparing against {@code NULL}: it is sent as an
+     * untyped array literal whose element type the server infers from the statement. Use {@code AsArray} to
+     * state the element type explicitly.
+     */
+    public static void setList(PreparedStatement stmt, List<?> values, int idx) throws SQLException {
+        ArrayDefinition definition = null;
+        for (var value : values) {
+            if (value == null) continue;
+
+            definition = definition(value.getClass());
+            if (definition == null)
+                throw new SQLException("Unsupported array element type: " + value.getClass().getName());
+            break;
+        }
+
+        if (definition == null) {
+            stmt.setObject(idx, nullsLiteral(values.size()), Types.OTHER);
+            return;
+        }
+
+        stmt.setArray(idx, stmt.getConnection().createArrayOf(definition.typeName(), values.toArray()));
+    }
+
+    public static ArrayDefinition definition(Class<?> elementType) {
+        return ELEMENT_DEFINITIONS.get(elementType);
+    }
+
+    private static String nullsLiteral(int size) {
+        if (size == 0) return "{}";
+
+        var literal = new StringBuilder(size * 5 + 1).append('{');
+        for (int i = 0; i < size; i++) literal.append(i == 0 ? "NULL" : ",NULL");
+        return literal.append('}').toString();
+    }
+
+    private static boolean nativeArrays(PreparedStatement stmt) throws SQLException {
+        if (PG_STATEMENT == null) return false;
+
+        var known = NATIVE_ARRAYS.get(stmt.getClass());
+        if (known != null) return known;
+
+        var isPostgres = stmt.isWrapperFor(PG_STATEMENT);
+        NATIVE_ARRAYS.put(stmt.getClass(), isPostgres);
+        return isPostgres;
+    }
+
+    private static Class<?> pgStatement() {
+        try {
+            return Class.forName("org.postgresql.PGStatement");
+        } catch (ClassNotFoundException _) {
+            return null;
+        }
+    }
+}
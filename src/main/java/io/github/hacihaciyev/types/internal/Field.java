@@ -1,5 +1,28 @@
 package io.github.hacihaciyev.types.internal;
 
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
-public record Field<T, V>(String name, Class<V> type, Function<T, V> accessor) {}
+/**
+ * @param accessor  boxing accessor, available for every component.
+ * @param primitive non-boxing accessor for {@code int}, {@code long} and {@code double} components,
+ *                  {@link Primitive.None} otherwise.
+ */
+public record Field<T, V>(String name, Class<V> type, Function<T, V> accessor, Primitive<T> primitive) {
+
+    public Field(String name, Class<V> type, Function<T, V> accessor) {
+        this(name, type, accessor, new Primitive.None<>());
+    }
+
+    public sealed interface Primitive<T> {
+        record OfInt<T>(ToIntFunction<T> accessor) implements Primitive<T> {}
+
+        record OfLong<T>(ToLongFunction<T> accessor) implements Primitive<T> {}
+
+        record OfDouble<T>(ToDoubleFunction<T> accessor) implements Primitive<T> {}
+
+        record None<T>() implements Primitive<T> {}
+    }
+}
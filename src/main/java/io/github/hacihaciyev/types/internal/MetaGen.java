@@ -1,6 +1,7 @@
 package io.github.hacihaciyev.types.internal;
 
 import io.github.hacihaciyev.config.Conf;
+import io.github.hacihaciyev.util.Nullable;
 
 import java.io.IOException;
 import java.lang.classfile.ClassBuilder;
@@ -11,6 +12,7 @@ import java.lang.classfile.ClassTransform;
 import java.lang.classfile.CodeBuilder;
 import java.lang.classfile.CodeModel;
 import java.lang.classfile.MethodModel;
+import java.lang.classfile.TypeKind;
 import java.lang.classfile.attribute.RecordAttribute;
 import java.lang.classfile.attribute.RecordComponentInfo;
 import java.lang.constant.ClassDesc;
@@ -26,7 +28,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.constant.ConstantDescs.CD_Class;
@@ -54,11 +58,22 @@ public final class MetaGen {
 
     static final ClassDesc JAVA_FUNCTION_DESC = ClassDesc.of("java.util.function.Function");
 
-    static final MethodTypeDesc FIELD_CONSTRUCTOR_DESC = MethodTypeDesc.of(CD_void, CD_String, CD_Class, JAVA_FUNCTION_DESC);
+    static final ClassDesc PRIMITIVE_ACCESSOR_DESC = ClassDesc.of("io.github.hacihaciyev.types.internal.Field$Primitive");
+
+    static final ClassDesc NO_PRIMITIVE_ACCESSOR_DESC = ClassDesc.of("io.github.hacihaciyev.types.internal.Field$Primitive$None");
+
+    static final MethodTypeDesc FIELD_CONSTRUCTOR_DESC = MethodTypeDesc.of(CD_void, CD_String, CD_Class, JAVA_FUNCTION_DESC, PRIMITIVE_ACCESSOR_DESC);
 
     static final ClassDesc FACTORY_DESC = ClassDesc.of("io.github.hacihaciyev.types.internal.RecordFactory");
 
-    static final MethodTypeDesc RECORD_CONSTRUCTOR_DESC = MethodTypeDesc.of(CD_void, CD_Class, FIELD_DESC.arrayType(), FACTORY_DESC);
+    static final ClassDesc READER_DESC = ClassDesc.of("io.github.hacihaciyev.types.internal.RowReader");
+
+    static final MethodTypeDesc RECORD_CONSTRUCTOR_DESC =
+            MethodTypeDesc.of(CD_void, CD_Class, FIELD_DESC.arrayType(), FACTORY_DESC, READER_DESC, ConstantDescs.CD_MethodHandle);
+
+    static final ClassDesc RESULT_SET_DESC = ClassDesc.of("java.sql.ResultSet");
+
+    static final ClassDesc BIG_DECIMAL_DESC = ClassDesc.of("java.math.BigDecimal");
 
     static final ClassDesc TYPE_INSTANTIATION_EXP_DESC = ClassDesc.of("io.github.hacihaciyev.types.TypeInstantiationException");
 
@@ -80,29 +95,33 @@ public final class MetaGen {
 
     private MetaGen() {}
 
-    private record MethodPair(MethodModel metaMethod, MethodModel factoryMethod) {}
+    /**
+     * @param readerMethod  {@code null} when a component cannot be read from a column
+     * @param columnMethod  {@code null} unless the record wraps a single column, see {@link #genColumnMethod}
+     */
+    private record MetaMethods(MethodModel metaMethod, MethodModel factoryMethod,
+                               @Nullable MethodModel readerMethod, @Nullable MethodModel columnMethod) {}
 
     static void main() {
         MetaRegistryAlter.resetMetaRegistry();
 
-        var packages = Conf.INSTANCE.packages();
-        for (var pkg : packages) {
-            var classes = PkgScan.read(pkg);
-            for (var type : classes) metaGen(type);
-        }
-    }
-
-    private static void metaGen(byte[] type) {
         var classFile = ClassFile.of();
-        var classModel = classFile.parse(type);
+        var records = new LinkedHashMap<ClassDesc, List<RecordComponentInfo>>();
+        for (var pkg : Conf.INSTANCE.packages()) {
+            for (var type : PkgScan.read(pkg)) {
+                var classModel = classFile.parse(type);
+                recordAttribute(classModel).ifPresent(ra -> records.put(classModel.thisClass().asSymbol(), ra.components()));
+            }
+        }
 
-        var attribute = recordAttribute(classModel);
-        if (attribute.isEmpty()) return;
+        for (var record : records.entrySet()) metaGen(classFile, record.getKey(), record.getValue(), records);
+    }
 
-        var classDesc = classModel.thisClass().asSymbol();
+    private static void metaGen(ClassFile classFile, ClassDesc classDesc, List<RecordComponentInfo> components,
+                                Map<ClassDesc, List<RecordComponentInfo>> records) {
 
-        var methodPair = genMetaMethod(classFile, classDesc, attribute.get());
-        MetaRegistryAlter.addMethodPair(classFile, methodPair, classDesc);
+        var metaMethods = genMetaMethod(classFile, classDesc, components, records);
+        MetaRegistryAlter.addMetaMethods(classFile, metaMethods, classDesc);
     }
 
     private static Optional<RecordAttribute> recordAttribute(ClassModel classModel) {
@@ -112,11 +131,16 @@ public final class MetaGen {
         return Optional.empty();
     }
 
-    private static MethodPair genMetaMethod(ClassFile cf, ClassDesc cd, RecordAttribute ra) {
-        var components = ra.components();
+    private static MetaMethods genMetaMethod(ClassFile cf, ClassDesc cd, List<RecordComponentInfo> components,
+                                             Map<ClassDesc, List<RecordComponentInfo>> records) {
         var name = defMethodName(cd);
         var factoryName = defFactoryMethodName(cd);
         var factoryMethod = genFactoryMethod(cf, cd, components, factoryName);
+        var readerName = defReaderMethodName(cd);
+        var readerMethod = genReaderMethod(cf, cd, components, readerName, records);
+        var columnMethod = wrappedColumn(cd, records)
+                .map(inner -> genColumnMethod(cf, cd, inner))
+                .orElse(null);
 
         var bytes = cf.build(CD_Object, clb -> clb.withMethodBody(name, TYPE_META_DESC, defMethodModifiers(), cob -> {
             cob.loadConstant(components.size());
@@ -140,6 +164,7 @@ public final class MetaGen {
                 else cob.ldc(fieldDesc);
 
                 cob.invokedynamic(lambdaForFieldAccessor(cd, fieldName, fieldDesc));
+                primitiveAccessor(cob, cd, fieldName, fieldDesc);
                 cob.invokespecial(FIELD_DESC, "<init>", FIELD_CONSTRUCTOR_DESC);
                 cob.aastore();
             }
@@ -152,6 +177,9 @@ public final class MetaGen {
             cob.swap();
 
             cob.invokedynamic(lambdaForRecordFactory(cd, factoryName));
+            if (readerMethod != null) cob.invokedynamic(lambdaForRowReader(cd, readerName));
+            else cob.aconst_null();
+            cob.ldc(constructorHandle(cd, components));
             cob.invokespecial(RECORD_DESC, "<init>", RECORD_CONSTRUCTOR_DESC);
             cob.areturn();
         }));
@@ -162,7 +190,7 @@ public final class MetaGen {
                 .findFirst()
                 .orElseThrow();
 
-        return new MethodPair(metaMethod, factoryMethod);
+        return new MetaMethods(metaMethod, factoryMethod, readerMethod, columnMethod);
     }
 
     private static String defMethodName(ClassDesc cd) {
@@ -173,6 +201,14 @@ public final class MetaGen {
         return "_factory_" + cd.descriptorString().replace("/", "_").replace(";", "");
     }
 
+    private static String defReaderMethodName(ClassDesc cd) {
+        return "_reader_" + cd.descriptorString().replace("/", "_").replace(";", "");
+    }
+
+    private static String defColumnMethodName(ClassDesc cd) {
+        return "_column_" + cd.descriptorString().replace("/", "_").replace(";", "");
+    }
+
     private static MethodModel genFactoryMethod(ClassFile cf, ClassDesc cd, List<RecordComponentInfo> components, String factoryName) {
         var methodDescriptor = MethodTypeDesc.of(cd, CD_Object.arrayType());
 
@@ -229,6 +265,147 @@ public final class MetaGen {
                 .orElseThrow();
     }
 
+    /**
+     * A component that is itself a scanned record is read through the {@code _column_} method of that record
+     * if it wraps a single column. Any other record component has no column to read from, so no reader is
+     * generated and {@link TypeMeta.Record#reader()} is {@code null}.
+     */
+    private static @Nullable MethodModel genReaderMethod(ClassFile cf, ClassDesc cd, List<RecordComponentInfo> components,
+                                                         String readerName, Map<ClassDesc, List<RecordComponentInfo>> records) {
+        for (var component : components) {
+            var fieldDesc = ClassDesc.ofDescriptor(component.descriptor().stringValue());
+            if (records.containsKey(fieldDesc) && wrappedColumn(fieldDesc, records).isEmpty()) return null;
+        }
+
+        var methodDescriptor = readerActualSignature(cd);
+
+        var bytes = cf.build(CD_Object, clb -> clb.withMethodBody(readerName, methodDescriptor, defMethodModifiers(), cob -> {
+            cob.new_(cd);
+            cob.dup();
+
+            for (int i = 0; i < components.size(); i++) {
+                var fieldDesc = ClassDesc.ofDescriptor(components.get(i).descriptor().stringValue());
+
+                cob.aload(0);
+                cob.aload(1);
+                cob.loadConstant(i);
+                cob.iaload();
+
+                if (records.containsKey(fieldDesc))
+                    cob.invokestatic(META_REGISTRY_DESC, defColumnMethodName(fieldDesc), MethodTypeDesc.of(fieldDesc, RESULT_SET_DESC, ConstantDescs.CD_int));
+                else
+                    readColumn(cob, fieldDesc);
+            }
+
+            var constructorDesc = MethodTypeDesc.of(CD_void,
+                    components.stream().map(c -> ClassDesc.ofDescriptor(c.descriptor().stringValue())).toArray(ClassDesc[]::new));
+
+            cob.invokespecial(cd, "<init>", constructorDesc);
+            cob.areturn();
+        }));
+
+        return cf.parse(bytes)
+                .methods().stream()
+                .filter(m -> m.methodName().stringValue().equals(readerName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * The component type of a record that wraps a single column, e.g. {@code UserId(UUID id)}.
+     */
+    private static Optional<ClassDesc> wrappedColumn(ClassDesc cd, Map<ClassDesc, List<RecordComponentInfo>> records) {
+        var components = records.get(cd);
+        if (components == null || components.size() != 1) return Optional.empty();
+
+        var inner = ClassDesc.ofDescriptor(components.getFirst().descriptor().stringValue());
+        return records.containsKey(inner) ? Optional.empty() : Optional.of(inner);
+    }
+
+    /**
+     * Generates {@code _column_*(ResultSet, int)} that reads the wrapped column and calls the canonical
+     * constructor; SQL {@code NULL} reads as a {@code null} record, not as a record holding {@code null} or 0.
+     */
+    private static MethodModel genColumnMethod(ClassFile cf, ClassDesc cd, ClassDesc inner) {
+        var columnName = defColumnMethodName(cd);
+        var methodDescriptor = MethodTypeDesc.of(cd, RESULT_SET_DESC, ConstantDescs.CD_int);
+
+        var bytes = cf.build(CD_Object, clb -> clb.withMethodBody(columnName, methodDescriptor, defMethodModifiers(), cob -> {
+            var kind = TypeKind.from(inner);
+            var value = cob.allocateLocal(kind);
+            var present = cob.newLabel();
+
+            cob.aload(0);
+            cob.iload(1);
+            readColumn(cob, inner);
+            cob.storeLocal(kind, value);
+
+            if (inner.isPrimitive()) {
+                cob.aload(0);
+                cob.invokeinterface(RESULT_SET_DESC, "wasNull", MethodTypeDesc.of(ConstantDescs.CD_boolean));
+                cob.ifeq(present);
+            } else {
+                cob.aload(value);
+                cob.ifnonnull(present);
+            }
+            cob.aconst_null();
+            cob.areturn();
+
+            cob.labelBinding(present);
+            cob.new_(cd);
+            cob.dup();
+            cob.loadLocal(kind, value);
+            cob.invokespecial(cd, "<init>", MethodTypeDesc.of(CD_void, inner));
+            cob.areturn();
+        }));
+
+        return cf.parse(bytes)
+                .methods().stream()
+                .filter(m -> m.methodName().stringValue().equals(columnName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void readColumn(CodeBuilder cob, ClassDesc fieldDesc) {
+        switch (fieldDesc.descriptorString()) {
+            case "I" -> cob.invokeinterface(RESULT_SET_DESC, "getInt", MethodTypeDesc.of(ConstantDescs.CD_int, ConstantDescs.CD_int));
+            case "J" -> cob.invokeinterface(RESULT_SET_DESC, "getLong", MethodTypeDesc.of(ConstantDescs.CD_long, ConstantDescs.CD_int));
+            case "D" -> cob.invokeinterface(RESULT_SET_DESC, "getDouble", MethodTypeDesc.of(ConstantDescs.CD_double, ConstantDescs.CD_int));
+            case "F" -> cob.invokeinterface(RESULT_SET_DESC, "getFloat", MethodTypeDesc.of(ConstantDescs.CD_float, ConstantDescs.CD_int));
+            case "Z" -> cob.invokeinterface(RESULT_SET_DESC, "getBoolean", MethodTypeDesc.of(ConstantDescs.CD_boolean, ConstantDescs.CD_int));
+            case "S" -> cob.invokeinterface(RESULT_SET_DESC, "getShort", MethodTypeDesc.of(ConstantDescs.CD_short, ConstantDescs.CD_int));
+            case "B" -> cob.invokeinterface(RESULT_SET_DESC, "getByte", MethodTypeDesc.of(ConstantDescs.CD_byte, ConstantDescs.CD_int));
+            case "C" -> {
+                // NULL and '' read as '\0', like getInt reads NULL as 0
+                var blank = cob.newLabel();
+                var done = cob.newLabel();
+
+                cob.invokeinterface(RESULT_SET_DESC, "getString", MethodTypeDesc.of(CD_String, ConstantDescs.CD_int));
+                cob.dup();
+                cob.ifnull(blank);
+                cob.dup();
+                cob.invokevirtual(CD_String, "isEmpty", MethodTypeDesc.of(ConstantDescs.CD_boolean));
+                cob.ifne(blank);
+                cob.iconst_0();
+                cob.invokevirtual(CD_String, "charAt", MethodTypeDesc.of(ConstantDescs.CD_char, ConstantDescs.CD_int));
+                cob.goto_(done);
+
+                cob.labelBinding(blank);
+                cob.pop();
+                cob.iconst_0();
+                cob.labelBinding(done);
+            }
+            case "Ljava/lang/String;" -> cob.invokeinterface(RESULT_SET_DESC, "getString", MethodTypeDesc.of(CD_String, ConstantDescs.CD_int));
+            case "Ljava/math/BigDecimal;" -> cob.invokeinterface(RESULT_SET_DESC, "getBigDecimal", MethodTypeDesc.of(BIG_DECIMAL_DESC, ConstantDescs.CD_int));
+            case "[B" -> cob.invokeinterface(RESULT_SET_DESC, "getBytes", MethodTypeDesc.of(ConstantDescs.CD_byte.arrayType(), ConstantDescs.CD_int));
+            default -> {
+                cob.ldc(fieldDesc);
+                cob.invokeinterface(RESULT_SET_DESC, "getObject", MethodTypeDesc.of(CD_Object, ConstantDescs.CD_int, CD_Class));
+                cob.checkcast(fieldDesc);
+            }
+        }
+    }
+
     private static int defMethodModifiers() {
         return ClassFile.ACC_PRIVATE | ClassFile.ACC_STATIC;
     }
@@ -261,6 +438,54 @@ public final class MetaGen {
         };
     }
 
+    private static void primitiveAccessor(CodeBuilder cob, ClassDesc cd, String fieldName, ClassDesc fieldDesc) {
+        var kind = PrimitiveAccessor.of(fieldDesc);
+        if (kind.isEmpty()) {
+            cob.new_(NO_PRIMITIVE_ACCESSOR_DESC);
+            cob.dup();
+            cob.invokespecial(NO_PRIMITIVE_ACCESSOR_DESC, "<init>", MethodTypeDesc.of(CD_void));
+            return;
+        }
+
+        var accessor = kind.get();
+        cob.new_(accessor.holder);
+        cob.dup();
+        cob.invokedynamic(DynamicCallSiteDesc.of(
+                LAMBDA_METAFACTORY_HANDLE,
+                accessor.samName,
+                MethodTypeDesc.of(accessor.function),
+                MethodTypeDesc.of(fieldDesc, CD_Object),
+                accessorMethodHandle(cd, fieldName, fieldDesc),
+                MethodTypeDesc.of(fieldDesc, cd)
+        ));
+        cob.invokespecial(accessor.holder, "<init>", MethodTypeDesc.of(CD_void, accessor.function));
+    }
+
+    private enum PrimitiveAccessor {
+        INT("I", "OfInt", "java.util.function.ToIntFunction", "applyAsInt"),
+        LONG("J", "OfLong", "java.util.function.ToLongFunction", "applyAsLong"),
+        DOUBLE("D", "OfDouble", "java.util.function.ToDoubleFunction", "applyAsDouble");
+
+        final String descriptor;
+        final ClassDesc holder;
+        final ClassDesc function;
+        final String samName;
+
+        PrimitiveAccessor(String descriptor, String holder, String function, String samName) {
+            this.descriptor = descriptor;
+            this.holder = ClassDesc.of("io.github.hacihaciyev.types.internal.Field$Primitive$" + holder);
+            this.function = ClassDesc.of(function);
+            this.samName = samName;
+        }
+
+        static Optional<PrimitiveAccessor> of(ClassDesc fieldDesc) {
+            for (var accessor : values()) {
+                if (accessor.descriptor.equals(fieldDesc.descriptorString())) return Optional.of(accessor);
+            }
+            return Optional.empty();
+        }
+    }
+
     private static DynamicCallSiteDesc lambdaForFieldAccessor(ClassDesc cd, String fieldName, ClassDesc fieldDesc) {
         return DynamicCallSiteDesc.of(
                 LAMBDA_METAFACTORY_HANDLE,
@@ -329,6 +554,45 @@ public final class MetaGen {
         return MethodTypeDesc.of(cd, CD_Object.arrayType());
     }
 
+    private static DirectMethodHandleDesc constructorHandle(ClassDesc cd, List<RecordComponentInfo> components) {
+        return MethodHandleDesc.ofConstructor(cd,
+                components.stream().map(c -> ClassDesc.ofDescriptor(c.descriptor().stringValue())).toArray(ClassDesc[]::new));
+    }
+
+    private static DynamicCallSiteDesc lambdaForRowReader(ClassDesc cd, String readerName) {
+        return DynamicCallSiteDesc.of(
+                LAMBDA_METAFACTORY_HANDLE,
+                "read",
+                MethodTypeDesc.of(READER_DESC),
+                readerLambdaConstantDesc(cd, readerName)
+        );
+    }
+
+    private static ConstantDesc[] readerLambdaConstantDesc(ClassDesc cd, String readerName) {
+        return new ConstantDesc[]{
+                readerSamSignature(),
+                readerMethodHandle(cd, readerName),
+                readerActualSignature(cd)
+        };
+    }
+
+    private static MethodTypeDesc readerSamSignature() {
+        return MethodTypeDesc.of(CD_Object, RESULT_SET_DESC, ConstantDescs.CD_int.arrayType());
+    }
+
+    private static DirectMethodHandleDesc readerMethodHandle(ClassDesc cd, String readerName) {
+        return MethodHandleDesc.ofMethod(
+                DirectMethodHandleDesc.Kind.STATIC,
+                META_REGISTRY_DESC,
+                readerName,
+                readerActualSignature(cd)
+        );
+    }
+
+    private static MethodTypeDesc readerActualSignature(ClassDesc cd) {
+        return MethodTypeDesc.of(cd, RESULT_SET_DESC, ConstantDescs.CD_int.arrayType());
+    }
+
     private static class MetaRegistryAlter {
 
         private MetaRegistryAlter() {}
@@ -346,15 +610,17 @@ public final class MetaGen {
             }
         }
 
-        static void addMethodPair(ClassFile cf, MethodPair pair, ClassDesc recordClass) {
+        static void addMetaMethods(ClassFile cf, MetaMethods methods, ClassDesc recordClass) {
             try {
                 var registryBytes = Files.readAllBytes(META_REGISTRY_PATH);
 
-                var withFactory = appendMethod(cf, registryBytes, pair.factoryMethod());
-                var withUpdatedMeta = updateMetaMethod(cf, withFactory, pair.metaMethod(), recordClass);
-                var withBothMethods = appendMethod(cf, withUpdatedMeta, pair.metaMethod());
+                var withFactory = appendMethod(cf, registryBytes, methods.factoryMethod());
+                var withReader = methods.readerMethod() == null ? withFactory : appendMethod(cf, withFactory, methods.readerMethod());
+                var withColumn = methods.columnMethod() == null ? withReader : appendMethod(cf, withReader, methods.columnMethod());
+                var withUpdatedMeta = updateMetaMethod(cf, withColumn, methods.metaMethod(), recordClass);
+                var withAllMethods = appendMethod(cf, withUpdatedMeta, methods.metaMethod());
 
-                Files.write(META_REGISTRY_PATH, withBothMethods);
+                Files.write(META_REGISTRY_PATH, withAllMethods);
             } catch (IOException e) {
                 throw new IllegalArgumentException(INVALID_PACKAGE_DEF, e);
             }
@@ -0,0 +1,9 @@
+package io.github.hacihaciyev.types.internal;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface RowReader<T> {
+    T read(ResultSet rs, int[] columns) throws SQLException;
+}
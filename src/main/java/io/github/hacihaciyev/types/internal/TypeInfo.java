@@ -3,7 +3,6 @@ package io.github.hacihaciyev.types.internal;
 import io.github.hacihaciyev.types.SQLType;
 import io.github.hacihaciyev.types.Setter;
 
-import java.util.Arrays;
 import java.util.Set;
 
 public sealed interface TypeInfo {
@@ -17,14 +16,17 @@ public sealed interface TypeInfo {
 
     record WithFactory<T>(
             Setter setter, Set<SQLType> sqlTypes,
-            Field<T, ?>[] fields, RecordFactory<T> factory) implements TypeInfo, TypeInfoOk {
+            Field<T, ?>[] fields, RecordFactory<T> factory, int width) implements TypeInfo, TypeInfoOk {
 
         public WithFactory {
             sqlTypes = Set.copyOf(sqlTypes);
+            if (width < 1) throw new IllegalArgumentException("Width must be positive");
         }
 
         public Object[] objects(T t) {
-            return Arrays.stream(fields).map(f -> f.accessor().apply(t)).toArray();
+            var objects = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) objects[i] = fields[i].accessor().apply(t);
+            return objects;
         }
     }
 
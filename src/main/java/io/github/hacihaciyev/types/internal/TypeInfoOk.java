@@ -9,4 +9,11 @@ public sealed interface TypeInfoOk permits TypeInfo.Some, TypeInfo.WithFactory {
     Setter setter();
 
     Set<SQLType> sqlTypes();
+
+    /**
+     * Number of consecutive placeholders the setter fills, starting at the index it is given.
+     */
+    default int width() {
+        return 1;
+    }
 }
@@ -1,9 +1,18 @@
 package io.github.hacihaciyev.types.internal;
 
+import java.lang.invoke.MethodHandle;
+
 public sealed interface TypeMeta {
     None NONE = new None();
 
-    record Record<T>(Class<T> type, Field<T, ?>[] fields, RecordFactory<T> factory) implements TypeMeta {}
+    /**
+     * @param constructor canonical constructor with its exact type, e.g. {@code (String,int)Person}.
+     *                    Calling it with {@code invokeExact} allocates only the record itself.
+     * @param reader      {@code null} if a component is a record that does not wrap a single column.
+     */
+    record Record<T>(
+            Class<T> type, Field<T, ?>[] fields, RecordFactory<T> factory,
+            RowReader<T> reader, MethodHandle constructor) implements TypeMeta {}
 
     record None() implements TypeMeta {}
 }
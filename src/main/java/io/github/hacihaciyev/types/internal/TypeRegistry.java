@@ -1,6 +1,7 @@
 package io.github.hacihaciyev.types.internal;
 
 import io.github.hacihaciyev.config.Conf;
+import io.github.hacihaciyev.types.AsArray;
 import io.github.hacihaciyev.types.AsObject;
 import io.github.hacihaciyev.types.AsString;
 import io.github.hacihaciyev.types.SQLType;
@@ -33,6 +34,12 @@ public final class TypeRegistry {
         }
     };
 
+    /**
+     * Records whose composite binding is being computed on this thread, so a component cycle
+     * (A has a B, B has an A) resolves to {@link TypeInfo#NONE} instead of recursing forever.
+     */
+    private static final ThreadLocal<Set<Class<?>>> VISITING = ThreadLocal.withInitial(HashSet::new);
+
     private TypeRegistry() {}
 
     public static TypeInfo info(Class<?> type) {
@@ -53,6 +60,15 @@ public final class TypeRegistry {
                     (stmt, p, idx) -> stmt.setObject(idx, ((AsObject) p).value())
             );
 
+        if (type == AsArray.class)
+            return info(
+                    (stmt, p, idx) -> {
+                        var array = (AsArray) p;
+                        stmt.setArray(idx, stmt.getConnection().createArrayOf(array.definition().typeName(), array.elements()));
+                    },
+                    io.github.hacihaciyev.types.SQLType.ARRAY
+            );
+
         if (type == AsString.class)
             return info(
                     (stmt, p, idx) -> stmt.setString(idx, String.valueOf(((AsString) p).value()))
@@ -339,6 +355,38 @@ public final class TypeRegistry {
                     charseqtypes()
             );
 
+        if (type == long[].class)
+            return info(
+                    (stmt, p, i) -> ArrayBinder.setLongs(stmt, (long[]) p, i),
+                    io.github.hacihaciyev.types.SQLType.ARRAY
+            );
+
+        if (type == int[].class)
+            return info(
+                    (stmt, p, i) -> ArrayBinder.setInts(stmt, (int[]) p, i),
+                    io.github.hacihaciyev.types.SQLType.ARRAY
+            );
+
+        if (type == double[].class)
+            return info(
+                    (stmt, p, i) -> ArrayBinder.setDoubles(stmt, (double[]) p, i),
+                    io.github.hacihaciyev.types.SQLType.ARRAY
+            );
+
+        if (type.isArray() && ArrayBinder.definition(type.getComponentType()) != null) {
+            var definition = ArrayBinder.definition(type.getComponentType());
+            return info(
+                    (stmt, p, i) -> ArrayBinder.setObjects(stmt, definition, (Object[]) p, i),
+                    io.github.hacihaciyev.types.SQLType.ARRAY
+            );
+        }
+
+        if (List.class.isAssignableFrom(type))
+            return info(
+                    (stmt, p, i) -> ArrayBinder.setList(stmt, (List<?>) p, i),
+                    io.github.hacihaciyev.types.SQLType.ARRAY, io.github.hacihaciyev.types.SQLType.LIST
+            );
+
         if (type == Void.class)
             return info(
                     (stmt, p, i) -> stmt.setNull(i, Types.NULL),
@@ -403,7 +451,8 @@ public final class TypeRegistry {
 
     private static TypeInfo tryMeta(Class<?> type) {
         return switch (MetaRegistry.meta(type)) {
-            case TypeMeta.Record<?> rec -> singleValueRecord(rec);
+            case TypeMeta.Record<?> rec when rec.fields().length == 1 -> singleValueRecord(rec);
+            case TypeMeta.Record<?> rec -> compositeRecord(rec);
             case TypeMeta.None _ -> TypeInfo.NONE;
         };
     }
@@ -417,17 +466,83 @@ public final class TypeRegistry {
         if (!(fieldInfo instanceof TypeInfo.Some(Setter setter, Set<SQLType> sqlTypes)))
             return TypeInfo.NONE;
 
+        Setter recordSetter = switch (field.primitive()) {
+            case Field.Primitive.OfInt<T>(var accessor) -> (stmt, p, idx) -> stmt.setInt(idx, accessor.applyAsInt((T) p));
+            case Field.Primitive.OfLong<T>(var accessor) -> (stmt, p, idx) -> stmt.setLong(idx, accessor.applyAsLong((T) p));
+            case Field.Primitive.OfDouble<T>(var accessor) -> (stmt, p, idx) -> stmt.setDouble(idx, accessor.applyAsDouble((T) p));
+            case Field.Primitive.None<T> _ -> (stmt, p, idx) -> {
+                try {
+                    var fieldValue = field.accessor().apply((T) p);
+                    setter.set(stmt, fieldValue, idx);
+                } catch (SQLException e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new TypeInlineException(rec.type(), e);
+                }
+            };
+        };
+
+        return new TypeInfo.WithFactory<>(recordSetter, sqlTypes, rec.fields(), rec.factory(), 1);
+    }
+
+    private static <T> TypeInfo compositeRecord(TypeMeta.Record<T> rec) {
+        var fields = rec.fields();
+        if (fields.length == 0) return TypeInfo.NONE;
+
+        var visiting = VISITING.get();
+        if (!visiting.add(rec.type())) return TypeInfo.NONE;
+
+        try {
+            return compositeRecord(rec, fields);
+        } finally {
+            visiting.remove(rec.type());
+        }
+    }
+
+    private static <T> TypeInfo compositeRecord(TypeMeta.Record<T> rec, Field<T, ?>[] fields) {
+        var setters = new Setter[fields.length];
+        var offsets = new int[fields.length];
+        var width = 0;
+
+        for (int i = 0; i < fields.length; i++) {
+            var field = fields[i];
+            if (!(info(field.type()) instanceof TypeInfoOk fieldInfo)) return TypeInfo.NONE;
+
+            setters[i] = componentSetter(rec, field, fieldInfo);
+            offsets[i] = width;
+            width += fieldInfo.width();
+        }
+
         Setter recordSetter = (stmt, p, idx) -> {
-            try {
-                var fieldValue = field.accessor().apply((T) p);
-                setter.set(stmt, fieldValue, idx);
-            } catch (SQLException e) {
-                throw e;
-            } catch (Throwable e) {
-                throw new TypeInlineException(rec.type(), e);
-            }
+            for (int i = 0; i < setters.length; i++) setters[i].set(stmt, p, idx + offsets[i]);
         };
 
-        return new TypeInfo.WithFactory<>(recordSetter, sqlTypes, rec.fields(), rec.factory());
+        return new TypeInfo.WithFactory<>(recordSetter, Set.of(), fields, rec.factory(), width);
+    }
+
+    private static <T> Setter componentSetter(TypeMeta.Record<T> rec, Field<T, ?> field, TypeInfoOk fieldInfo) {
+        var setter = fieldInfo.setter();
+        var width = fieldInfo.width();
+
+        return switch (field.primitive()) {
+            case Field.Primitive.OfInt<T>(var accessor) -> (stmt, p, idx) -> stmt.setInt(idx, accessor.applyAsInt((T) p));
+            case Field.Primitive.OfLong<T>(var accessor) -> (stmt, p, idx) -> stmt.setLong(idx, accessor.applyAsLong((T) p));
+            case Field.Primitive.OfDouble<T>(var accessor) -> (stmt, p, idx) -> stmt.setDouble(idx, accessor.applyAsDouble((T) p));
+            case Field.Primitive.None<T> _ -> (stmt, p, idx) -> {
+                try {
+                    var fieldValue = field.accessor().apply((T) p);
+                    if (fieldValue == null) {
+                        for (int i = 0; i < width; i++) stmt.setNull(idx + i, Types.NULL);
+                        return;
+                    }
+
+                    setter.set(stmt, fieldValue, idx);
+                } catch (SQLException | TypeInlineException e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new TypeInlineException(rec.type(), e);
+                }
+            };
+        };
     }
 }
@@ -0,0 +1,350 @@
+package io.github.hacihaciyev.jdbc;
+
+import io.github.hacihaciyev.sql.QueryForge;
+import io.github.hacihaciyev.sql.RowsTemplate;
+import io.github.hacihaciyev.types.ArrayDefinition;
+import io.github.hacihaciyev.types.TestRecords.Account;
+import io.github.hacihaciyev.types.TestRecords.AccountKey;
+import io.github.hacihaciyev.types.internal.MetaGenExtension;
+import io.github.hacihaciyev.util.Err;
+import io.github.hacihaciyev.util.Ok;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MetaGenExtension.class)
+class JetQueriousTest {
+
+    private static final String INSERT = "INSERT INTO accounts (id, name) VALUES (?, ?)";
+
+    private Connection conn;
+
+    private PreparedStatement stmt;
+
+    private JetQuerious jet;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        var dataSource = mock(DataSource.class);
+        conn = mock(Connection.class);
+        stmt = mock(PreparedStatement.class);
+
+        when(dataSource.getConnection()).thenReturn(conn);
+        when(conn.getAutoCommit()).thenReturn(true);
+        when(conn.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(stmt);
+
+        JetQuerious.init(dataSource);
+        jet = JetQuerious.instance();
+    }
+
+    @Test
+    void writeBatch_flushesEveryChunk() throws SQLException {
+        when(stmt.executeBatch()).thenReturn(new int[]{1, 1}, new int[]{1});
+
+        var rows = List.of(new Account(1, "a"), new Account(2, "b"), new Account(3, "c"));
+        var result = jet.writeBatch(INSERT, rows, a -> new Object[]{a.id(), a.name()}, 2);
+
+        assertInstanceOf(Ok.class, result);
+        assertEquals(3L, result.or(-1L));
+        verify(stmt, times(3)).addBatch();
+        verify(stmt, times(2)).executeBatch();
+        verify(stmt).setLong(1, 3L);
+        verify(conn).commit();
+        verify(conn).setAutoCommit(true);
+    }
+
+    @Test
+    void writeBatch_recordElements_bindAllComponents() throws SQLException {
+        when(stmt.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+
+        var result = jet.writeBatch(INSERT, List.of(new Account(1, "a"), new Account(2, "b")), 100);
+
+        assertEquals(2L, result.or(-1L));
+        verify(stmt).setLong(1, 2L);
+        verify(stmt).setString(2, "b");
+        verify(stmt, times(1)).executeBatch();
+    }
+
+    @Test
+    void writeBatch_failure_rollsBack() throws SQLException {
+        when(stmt.executeBatch()).thenThrow(new BatchUpdateException("boom", "23505", new int[0]));
+
+        var result = jet.writeBatch(INSERT, List.of(new Account(1, "a")), 10);
+
+        assertInstanceOf(Err.class, result);
+        verify(conn).rollback();
+        verify(conn, never()).commit();
+        verify(stmt).clearBatch();
+    }
+
+    @Test
+    void writeBatch_nonPositiveChunk_throws() {
+        assertThrows(IllegalArgumentException.class, () -> jet.writeBatch(INSERT, List.of(), 0));
+    }
+
+    @Test
+    void writeRows_rendersOneStatementPerChunk() throws SQLException {
+        var template = RowsTemplate.of("INSERT INTO accounts (id, name) VALUES ", 2, "");
+        when(stmt.executeUpdate()).thenReturn(3);
+
+        var result = jet.writeRows(template, List.of(new Account(1, "a"), new Account(2, "b"), new Account(3, "c")));
+
+        assertEquals(3L, result.or(-1L));
+        verify(conn).prepareStatement(eq("INSERT INTO accounts (id, name) VALUES (?, ?), (?, ?), (?, ?) "), anyInt(), anyInt());
+        verify(stmt).setLong(5, 3L);
+        verify(stmt).setString(6, "c");
+        verify(conn).commit();
+    }
+
+    @Test
+    void stream_readsLazilyAndReleasesConnectionOnClose() throws Exception {
+        var rs = mock(ResultSet.class);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getLong(1)).thenReturn(1L, 2L);
+
+        var result = jet.stream("SELECT id FROM accounts WHERE id > ?", r -> r.getLong(1), 100, 0L);
+
+        try (var ids = result.or(Stream.empty())) {
+            verify(rs, never()).next();
+            assertEquals(List.of(1L, 2L), ids.toList());
+        }
+
+        verify(stmt).setFetchSize(100);
+        verify(stmt).setLong(1, 0L);
+        verify(conn).setAutoCommit(false);
+        verify(rs).close();
+        verify(stmt).close();
+        verify(conn).rollback();
+        verify(conn).setAutoCommit(true);
+        verify(conn).close();
+    }
+
+    @Test
+    void stream_consumedToEnd_releasesConnectionWithoutClose() throws Exception {
+        var rs = mock(ResultSet.class);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getLong(1)).thenReturn(1L);
+
+        var ids = jet.stream("SELECT id FROM accounts", r -> r.getLong(1), 100).or(Stream.empty()).toList();
+
+        assertEquals(List.of(1L), ids);
+        verify(rs).close();
+        verify(stmt).close();
+        verify(conn).rollback();
+        verify(conn).setAutoCommit(true);
+        verify(conn).close();
+    }
+
+    @Test
+    void stream_rollbackFailure_stillRestoresAutoCommit() throws Exception {
+        var rs = mock(ResultSet.class);
+        when(stmt.executeQuery()).thenReturn(rs);
+        doThrow(new SQLException("rollback failed")).when(conn).rollback();
+
+        var result = jet.stream("SELECT id FROM accounts", r -> r.getLong(1), 100);
+        result.or(Stream.empty()).close();
+
+        verify(conn).setAutoCommit(true);
+        verify(conn).close();
+    }
+
+    @Test
+    void stream_autoCommitFailure_closesConnection() throws Exception {
+        when(conn.getAutoCommit()).thenThrow(new SQLException("connection is closed"));
+
+        var result = jet.stream("SELECT id FROM accounts", r -> r.getLong(1), 100);
+
+        assertInstanceOf(Err.class, result);
+        verify(conn, never()).prepareStatement(anyString(), anyInt(), anyInt());
+        verify(conn).close();
+    }
+
+    @Test
+    void readBatch_mapsEachResultSetWithItsExtractor() throws Exception {
+        var names = mock(ResultSet.class);
+        var counts = mock(ResultSet.class);
+        when(stmt.execute()).thenReturn(true);
+        when(stmt.getResultSet()).thenReturn(names, counts);
+        when(stmt.getMoreResults()).thenReturn(true, false);
+        when(stmt.getUpdateCount()).thenReturn(-1);
+        when(names.next()).thenReturn(true, true, false);
+        when(names.getString(1)).thenReturn("a", "b");
+        when(counts.next()).thenReturn(true, false);
+        when(counts.getLong(1)).thenReturn(2L);
+
+        var result = jet.readBatch("SELECT name FROM accounts; SELECT count(*) FROM accounts;", new Object[0],
+                rs -> rs.getString(1), rs -> rs.getLong(1));
+
+        var tuple = result.or(() -> fail("Expected Ok"));
+        assertEquals(List.of("a", "b"), tuple.first());
+        assertEquals(List.of(2L), tuple.second());
+        verify(names).close();
+        verify(counts).close();
+    }
+
+    @Test
+    void readBatch_fewerResultSets_returnsErr() throws Exception {
+        var names = mock(ResultSet.class);
+        when(stmt.execute()).thenReturn(true);
+        when(stmt.getResultSet()).thenReturn(names);
+        when(stmt.getMoreResults()).thenReturn(false);
+        when(stmt.getUpdateCount()).thenReturn(-1);
+
+        var result = jet.readBatch("SELECT name FROM accounts;", new Object[0], rs -> rs.getString(1), rs -> rs.getLong(1));
+
+        assertTrue(result.isErr());
+    }
+
+    @Test
+    void readPage_fullPage_returnsLastKeyAsCursor() throws Exception {
+        var rs = mock(ResultSet.class);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getLong(1)).thenReturn(10L, 11L);
+        when(rs.getObject("id")).thenReturn(11L);
+
+        var query = QueryForge.select().column("a.id").from("accounts a").after("a.id");
+        var page = jet.readPage(query, r -> r.getLong(1), new Object[]{9L}, 2).or(() -> fail("Expected Ok"));
+
+        assertEquals(List.of(10L, 11L), page.items());
+        assertTrue(page.hasNext());
+        assertArrayEquals(new Object[]{11L}, page.cursor());
+        verify(conn).prepareStatement(eq(query.next().sql()), anyInt(), anyInt());
+        verify(stmt).setLong(1, 9L);
+        verify(stmt).setInt(2, 2);
+    }
+
+    @Test
+    void writeUnnest_bindsOneArrayPerComponent() throws SQLException {
+        var ids = mock(Array.class);
+        var names = mock(Array.class);
+        when(conn.createArrayOf("bigint", new Object[]{1L, 2L})).thenReturn(ids);
+        when(conn.createArrayOf("text", new Object[]{"a", "b"})).thenReturn(names);
+        when(stmt.getConnection()).thenReturn(conn);
+        when(stmt.executeUpdate()).thenReturn(2);
+
+        var sql = QueryForge.insert()
+                .into("accounts", "id", "name")
+                .unnest(ArrayDefinition.BIGINT, ArrayDefinition.TEXT)
+                .build().sql();
+        var result = jet.writeUnnest(sql, Account.class, List.of(new Account(1, "a"), new Account(2, "b")));
+
+        assertEquals(2L, result.or(-1L));
+        verify(stmt).setArray(1, ids);
+        verify(stmt).setArray(2, names);
+    }
+
+    @Test
+    void writeUnnest_noRows_skipsStatement() throws SQLException {
+        assertEquals(0L, jet.writeUnnest("INSERT", Account.class, List.of()).or(-1L));
+        verify(conn, never()).prepareStatement(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void deleteByKeys_perChunk_commitsEveryChunk() throws SQLException {
+        var array = mock(Array.class);
+        when(stmt.getConnection()).thenReturn(conn);
+        when(conn.createArrayOf(eq("bigint"), any())).thenReturn(array);
+        when(stmt.executeUpdate()).thenReturn(2, 2, 1);
+
+        var result = jet.deleteByKeys("DELETE FROM events WHERE id = ANY(?) ", new long[]{1, 2, 3, 4, 5}, 2, ChunkCommit.PER_CHUNK);
+
+        assertEquals(5L, result.or(-1L));
+        verify(conn).createArrayOf("bigint", new Object[]{5L});
+        verify(stmt, times(3)).setArray(1, array);
+        verify(conn, times(4)).commit();
+    }
+
+    @Test
+    void deleteByKeys_singleTransaction_rollsBackAllChunks() throws SQLException {
+        var array = mock(Array.class);
+        when(stmt.getConnection()).thenReturn(conn);
+        when(conn.createArrayOf(eq("text"), any())).thenReturn(array);
+        when(stmt.executeUpdate()).thenReturn(2).thenThrow(new SQLException("boom", "40001"));
+
+        var result = jet.deleteByKeys("DELETE FROM events WHERE code = ANY(?) ", List.of("a", "b", "c"), 2, ChunkCommit.SINGLE_TRANSACTION);
+
+        assertTrue(result.isErr());
+        verify(conn, never()).commit();
+        verify(conn).rollback();
+    }
+
+    @Test
+    void deleteByKeys_collection_chunksInIterationOrder() throws SQLException {
+        var array = mock(Array.class);
+        when(stmt.getConnection()).thenReturn(conn);
+        when(conn.createArrayOf(eq("text"), any())).thenReturn(array);
+        when(stmt.executeUpdate()).thenReturn(2, 1);
+
+        var keys = new LinkedHashSet<>(List.of("a", "b", "c"));
+        var result = jet.deleteByKeys("DELETE FROM events WHERE code = ANY(?) ", keys, 2, ChunkCommit.SINGLE_TRANSACTION);
+
+        assertEquals(3L, result.or(-1L));
+        verify(conn).createArrayOf("text", new Object[]{"a", "b"});
+        verify(conn).createArrayOf("text", new Object[]{"c"});
+        verify(conn).commit();
+    }
+
+    @Test
+    void multiGet_returnsRowsInKeyOrder() throws Exception {
+        var rs = mock(ResultSet.class);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getLong(1)).thenReturn(7L, 7L);
+        when(rs.getLong(2)).thenReturn(2L, 1L);
+        when(rs.getString(3)).thenReturn("second", "first");
+
+        var template = RowsTemplate.of("SELECT tenant_id, id, name FROM accounts WHERE (tenant_id, id) IN (", 2, ")");
+        var keys = List.of(new AccountKey(7, 1), new AccountKey(7, 3), new AccountKey(7, 2));
+
+        var result = jet.multiGet(template, keys, r -> new AccountKey(r.getLong(1), r.getLong(2)), r -> r.getString(3))
+                .or(() -> fail("Expected Ok"));
+
+        assertEquals(List.of(new AccountKey(7, 1), new AccountKey(7, 2)), List.copyOf(result.keySet()));
+        assertEquals(List.of("first", "second"), List.copyOf(result.values()));
+        verify(conn).prepareStatement(eq(template.sql(4)), anyInt(), anyInt());
+        verify(stmt).setLong(5, 7L);
+        verify(stmt).setLong(6, 2L);
+        verify(stmt).setLong(7, 7L);
+        verify(stmt).setLong(8, 2L);
+    }
+
+    @Test
+    void multiGet_padsKeysToBucketedShapes() throws Exception {
+        var rs = mock(ResultSet.class);
+        when(stmt.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(false);
+
+        var template = RowsTemplate.of("SELECT tenant_id, id, name FROM accounts WHERE (tenant_id, id) IN (", 2, ")");
+        for (int count : new int[]{3, 4, 5, 6, 7, 8}) {
+            var keys = new ArrayList<AccountKey>();
+            for (int i = 1; i <= count; i++) keys.add(new AccountKey(7, i));
+
+            jet.multiGet(template, keys, r -> new AccountKey(r.getLong(1), r.getLong(2)), r -> r.getString(3))
+                    .or(() -> fail("Expected Ok"));
+        }
+
+        verify(conn).prepareStatement(eq(template.sql(4)), anyInt(), anyInt());
+        verify(conn).prepareStatement(eq(template.sql(8)), anyInt(), anyInt());
+        verify(conn, times(2)).prepareStatement(anyString(), anyInt(), anyInt());
+    }
+}
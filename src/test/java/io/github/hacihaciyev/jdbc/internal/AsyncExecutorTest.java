@@ -0,0 +1,61 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.util.Ok;
+import io.github.hacihaciyev.util.Result;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncExecutorTest {
+
+    @Test
+    void submit_runsOnVirtualThread() {
+        var executor = new AsyncExecutor(1);
+
+        var result = executor.<Boolean>submit(() -> new Ok<>(Thread.currentThread().isVirtual())).join();
+
+        assertEquals(true, result.or(false));
+    }
+
+    @Test
+    void submit_neverExceedsConcurrency() {
+        var executor = new AsyncExecutor(2);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        var futures = new ArrayList<CompletableFuture<Result<Integer, Exception>>>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(executor.submit(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return new Ok<>(1);
+            }));
+        }
+
+        futures.forEach(CompletableFuture::join);
+
+        assertTrue(maxRunning.get() <= 2);
+        assertEquals(2, executor.availablePermits());
+    }
+
+    @Test
+    void submit_runtimeFailure_returnsErr() {
+        var executor = new AsyncExecutor(1);
+
+        var result = executor.<Integer>submit(() -> {
+            throw new IllegalStateException("boom");
+        }).join();
+
+        assertTrue(result.isErr());
+        assertEquals(1, executor.availablePermits());
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.schema.internal.Column;
+import io.github.hacihaciyev.schema.internal.Table;
+import io.github.hacihaciyev.types.SQLType;
+import io.github.hacihaciyev.types.TestRecords.Account;
+import io.github.hacihaciyev.types.TestRecords.Money;
+import io.github.hacihaciyev.types.internal.MetaGenExtension;
+import io.github.hacihaciyev.types.internal.MetaRegistry;
+import io.github.hacihaciyev.types.internal.TypeMeta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MetaGenExtension.class)
+class BinaryCopyTest {
+
+    @Test
+    void of_rendersCopyStatement() {
+        var copy = BinaryCopy.of(meta(Account.class), accounts(SQLType.BIGINT));
+
+        assertEquals("COPY \"public\".\"accounts\" (\"id\", \"name\") FROM STDIN (FORMAT binary)", copy.sql());
+    }
+
+    @Test
+    void stream_encodesHeaderTuplesAndTrailer() throws IOException {
+        var copy = BinaryCopy.of(meta(Account.class), accounts(SQLType.BIGINT));
+
+        try (var in = new DataInputStream(copy.stream(List.of(new Account(7L, "ab"))))) {
+            var signature = new byte[11];
+            in.readFully(signature);
+            assertArrayEquals(new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0}, signature);
+            assertEquals(0, in.readInt());
+            assertEquals(0, in.readInt());
+
+            assertEquals(2, in.readShort());
+            assertEquals(8, in.readInt());
+            assertEquals(7L, in.readLong());
+            assertEquals(2, in.readInt());
+            assertEquals('a', in.readByte());
+            assertEquals('b', in.readByte());
+
+            assertEquals(-1, in.readShort());
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    void stream_encodesNumeric() throws IOException {
+        var table = new Table(new Table.Catalog.Unknown(), new Table.Schema.Unknown(), "payments", new Column[]{
+                new Column.Known("amount", SQLType.NUMERIC, false),
+                new Column.Known("currency", SQLType.VARCHAR, false)
+        });
+        var copy = BinaryCopy.of(meta(Money.class), table);
+
+        try (var in = new DataInputStream(copy.stream(List.of(new Money(new BigDecimal("-123.45"), "EUR"))))) {
+            in.skipNBytes(19);
+            assertEquals(2, in.readShort());
+
+            assertEquals(12, in.readInt());
+            assertEquals(2, in.readShort());
+            assertEquals(0, in.readShort());
+            assertEquals(0x4000, in.readShort());
+            assertEquals(2, in.readShort());
+            assertEquals(123, in.readShort());
+            assertEquals(4500, in.readShort());
+        }
+    }
+
+    @Test
+    void of_narrowingColumn_throws() {
+        assertThrows(IllegalArgumentException.class, () -> BinaryCopy.of(meta(Account.class), accounts(SQLType.INTEGER)));
+    }
+
+    @Test
+    void of_missingColumn_throws() {
+        var table = new Table(new Table.Catalog.Unknown(), new Table.Schema.Unknown(), "accounts", new Column[]{
+                new Column.Known("id", SQLType.BIGINT, false)
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryCopy.of(meta(Account.class), table));
+    }
+
+    private static Table accounts(SQLType idType) {
+        return new Table(new Table.Catalog.Unknown(), new Table.Schema.Known("public"), "accounts", new Column[]{
+                new Column.Known("id", idType, false),
+                new Column.Known("name", SQLType.TEXT, true)
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TypeMeta.Record<T> meta(Class<T> type) {
+        return (TypeMeta.Record<T>) MetaRegistry.meta(type);
+    }
+}
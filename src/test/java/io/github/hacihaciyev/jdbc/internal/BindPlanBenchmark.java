@@ -0,0 +1,87 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.types.internal.TypeInfoOk;
+import io.github.hacihaciyev.types.internal.TypeRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-parameter {@link TypeRegistry} dispatch with a precomputed {@link BindPlan}
+ * for a 20-parameter insert shape.
+ *
+ * <p>Run with {@code java -cp target/test-classes:<test classpath> io.github.hacihaciyev.jdbc.internal.BindPlanBenchmark}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindPlanBenchmark {
+
+    private PreparedStatement stmt;
+
+    private Object[] params;
+
+    private BindPlan plan;
+
+    @Setup
+    public void setUp() throws Exception {
+        stmt = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (_, _, _) -> null
+        );
+
+        params = new Object[]{
+                1L, "alice", 42, new BigDecimal("10.50"), UUID.randomUUID(),
+                Instant.now(), true, LocalDate.now(), 7L, "bob",
+                3, new BigDecimal("99.99"), UUID.randomUUID(), Instant.now(), false,
+                LocalDate.now(), 11L, "carol", 5, 2.5d
+        };
+
+        plan = BindPlan.of(params);
+    }
+
+    @Benchmark
+    public void perParameterLookup(Blackhole bh) throws Exception {
+        for (int i = 0; i < params.length; i++) {
+            var info = (TypeInfoOk) TypeRegistry.info(params[i].getClass());
+            info.setter().set(stmt, params[i], i + 1);
+        }
+        bh.consume(stmt);
+    }
+
+    @Benchmark
+    public void bindPlan(Blackhole bh) throws Exception {
+        if (!plan.matches(params)) plan = BindPlan.of(params);
+        plan.apply(stmt, params);
+        bh.consume(stmt);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(BindPlanBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
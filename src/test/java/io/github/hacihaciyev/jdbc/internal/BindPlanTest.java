@@ -0,0 +1,71 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.sql_error_translation.InvalidArgumentTypeException;
+import io.github.hacihaciyev.types.TestRecords.Money;
+import io.github.hacihaciyev.types.internal.MetaGenExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MetaGenExtension.class)
+class BindPlanTest {
+
+    @Test
+    void of_emptyParams_returnsEmptyPlan() throws InvalidArgumentTypeException {
+        assertSame(BindPlan.EMPTY, BindPlan.of());
+        assertSame(BindPlan.EMPTY, BindPlan.of((Object[]) null));
+    }
+
+    @Test
+    void matches_sameClasses_true() throws InvalidArgumentTypeException {
+        var plan = BindPlan.of(1L, "a", null);
+
+        assertTrue(plan.matches(2L, "b", null));
+    }
+
+    @Test
+    void matches_differentClasses_false() throws InvalidArgumentTypeException {
+        var plan = BindPlan.of(1L, "a");
+
+        assertFalse(plan.matches(1, "a"));
+        assertFalse(plan.matches(1L, null));
+        assertFalse(plan.matches(1L));
+    }
+
+    @Test
+    void apply_bindsInOrder() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+        var plan = BindPlan.of(1L, "a", null);
+
+        plan.apply(stmt, 5L, "b", null);
+
+        verify(stmt).setLong(1, 5L);
+        verify(stmt).setString(2, "b");
+        verify(stmt).setNull(3, Types.NULL);
+    }
+
+    @Test
+    void apply_compositeRecord_advancesIndexByWidth() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+        var plan = BindPlan.of(1L, new Money(BigDecimal.TEN, "EUR"), "note");
+
+        plan.apply(stmt, 1L, new Money(BigDecimal.TEN, "EUR"), "note");
+
+        assertEquals(4, plan.width());
+        verify(stmt).setLong(1, 1L);
+        verify(stmt).setBigDecimal(2, BigDecimal.TEN);
+        verify(stmt).setString(3, "EUR");
+        verify(stmt).setString(4, "note");
+    }
+
+    @Test
+    void of_unsupportedType_throws() {
+        assertThrows(InvalidArgumentTypeException.class, () -> BindPlan.of(new Object()));
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.hacihaciyev.jdbc.internal;
+
+import io.github.hacihaciyev.jdbc.ResultSetType;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StatementCacheTest {
+
+    @Test
+    void prepare_sameSql_reusesStatement() throws SQLException {
+        var conn = connection();
+
+        var cache = StatementCache.of(conn);
+        var first = cache.prepare("SELECT 1");
+        var second = cache.prepare("SELECT 1");
+
+        assertSame(first, second);
+        verify(conn, times(1)).prepareStatement(eq("SELECT 1"), anyInt(), anyInt());
+        verify(second, times(1)).clearParameters();
+    }
+
+    @Test
+    void prepare_differentResultSetType_preparesNewStatement() throws SQLException {
+        var conn = connection();
+
+        var cache = StatementCache.of(conn);
+        var forward = cache.prepare("SELECT 1", ResultSetType.FORWARD_ONLY_READ_ONLY);
+        var scroll = cache.prepare("SELECT 1", ResultSetType.SCROLL_INSENSITIVE_READ_ONLY);
+
+        assertNotSame(forward, scroll);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void prepare_closedStatement_isPreparedAgain() throws SQLException {
+        var conn = connection();
+
+        var cache = StatementCache.of(conn);
+        var first = cache.prepare("SELECT 1");
+        when(first.isClosed()).thenReturn(true);
+
+        var second = cache.prepare("SELECT 1");
+
+        assertNotSame(first, second);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void prepare_alternatingNullParameter_bindsBothShapes() throws Exception {
+        var conn = connection();
+
+        var cache = StatementCache.of(conn);
+        var stmt = cache.prepare("SELECT ?", ResultSetType.FORWARD_ONLY_READ_ONLY, "a");
+        cache.prepare("SELECT ?", ResultSetType.FORWARD_ONLY_READ_ONLY, (Object) null);
+        cache.prepare("SELECT ?", ResultSetType.FORWARD_ONLY_READ_ONLY, "b");
+        cache.prepare("SELECT ?", ResultSetType.FORWARD_ONLY_READ_ONLY, (Object) null);
+
+        verify(stmt).setString(1, "a");
+        verify(stmt).setString(1, "b");
+        verify(stmt, times(2)).setNull(1, Types.NULL);
+    }
+
+    @Test
+    void of_sameConnection_returnsSameCache() throws SQLException {
+        var conn = connection();
+
+        assertSame(StatementCache.of(conn), StatementCache.of(conn));
+    }
+
+    @Test
+    void of_closedConnection_dropsStaleCache() throws SQLException {
+        var conn = connection();
+
+        var first = StatementCache.of(conn);
+        first.prepare("SELECT 1");
+        when(conn.isClosed()).thenReturn(true);
+
+        var second = StatementCache.of(conn);
+
+        assertNotSame(first, second);
+        assertEquals(0, second.size());
+    }
+
+    @Test
+    void of_lookupsOfLiveConnection_purgeClosedConnections() throws SQLException {
+        var closed = connection();
+        var live = connection();
+
+        StatementCache.of(closed);
+        when(closed.isClosed()).thenReturn(true);
+        for (int i = 0; i < 10_000 && StatementCache.registered(closed); i++) StatementCache.of(live);
+
+        assertFalse(StatementCache.registered(closed));
+    }
+
+    @Test
+    void of_wrappedConnection_cachesByPhysicalConnection() throws SQLException {
+        var physical = connection();
+        var proxy = mock(Connection.class);
+        when(proxy.isWrapperFor(Connection.class)).thenReturn(true);
+        when(proxy.unwrap(Connection.class)).thenReturn(physical);
+
+        assertSame(StatementCache.of(physical), StatementCache.of(proxy));
+    }
+
+    @Test
+    void evict_closesStatement() throws SQLException {
+        var conn = connection();
+
+        var cache = StatementCache.of(conn);
+        var stmt = cache.prepare("SELECT 1");
+        cache.evict("SELECT 1", ResultSetType.FORWARD_ONLY_READ_ONLY);
+
+        verify(stmt).close();
+        assertEquals(0, cache.size());
+    }
+
+    private static Connection connection() throws SQLException {
+        var conn = mock(Connection.class);
+        when(conn.prepareStatement(anyString(), anyInt(), anyInt()))
+                .thenAnswer(_ -> mock(PreparedStatement.class));
+        return conn;
+    }
+}
@@ -2,18 +2,34 @@ package io.github.hacihaciyev.schema.internal;
 
 import io.github.hacihaciyev.dsl.TableRef;
 import io.github.hacihaciyev.schema.SchemaVerificationException;
+import io.github.hacihaciyev.types.SQLType;
 import io.github.hacihaciyev.util.Err;
 import io.github.hacihaciyev.util.Ok;
+import io.github.hacihaciyev.util.Result;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -21,6 +37,11 @@ import static org.mockito.Mockito.*;
 
 class SchemaResolverTest {
 
+    private static final String URL = "jdbc:postgresql://localhost:5432/app";
+
+    @TempDir
+    Path dir;
+
     @Mock
     private DataSource dataSource;
 
@@ -43,6 +64,12 @@ class SchemaResolverTest {
         when(connection.getMetaData()).thenReturn(metaData);
     }
 
+    @AfterEach
+    void tearDown() {
+        // flushes registered snapshots while their temp dirs still exist
+        SchemaResolver.close();
+    }
+
     @Test
     void load_simpleTable_success() throws SQLException {
         var tableRef = new TableRef.Base("users");
@@ -141,6 +168,284 @@ class SchemaResolverTest {
         verify(dataSource, times(1)).getConnection();
     }
 
+    @Test
+    void load_concurrentColdMisses_loadOnce() throws Exception {
+        var tableRef = new TableRef.Base("coalesced_users");
+        setupSuccessfulTableLookup("coalesced_users", null, null);
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(dataSource.getConnection()).thenAnswer(_ -> {
+            started.countDown();
+            release.await();
+            return connection;
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var first = executor.submit(() -> SchemaResolver.load(tableRef, dataSource));
+            started.await();
+
+            var others = new ArrayList<Future<Result<Table, SchemaVerificationException>>>();
+            for (int i = 0; i < 7; i++) others.add(executor.submit(() -> SchemaResolver.load(tableRef, dataSource)));
+            awaitWaiters(key(tableRef), 7);
+            release.countDown();
+
+            assertInstanceOf(Ok.class, first.get());
+            for (var other : others) assertInstanceOf(Ok.class, other.get());
+        }
+
+        verify(dataSource, times(1)).getConnection();
+    }
+
+    @Test
+    void load_concurrentColdMisses_waitersSeeLoaderException() throws Exception {
+        var tableRef = new TableRef.Base("failing_users");
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        when(dataSource.getConnection()).thenAnswer(_ -> {
+            started.countDown();
+            release.await();
+            throw new IllegalStateException("pool closed");
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var first = executor.submit(() -> SchemaResolver.load(tableRef, dataSource));
+            started.await();
+
+            var waiter = executor.submit(() -> SchemaResolver.load(tableRef, dataSource));
+            awaitWaiters(key(tableRef), 1);
+            release.countDown();
+
+            var loaderFailure = assertThrows(ExecutionException.class, first::get);
+            var waiterFailure = assertThrows(ExecutionException.class, waiter::get);
+            assertInstanceOf(IllegalStateException.class, loaderFailure.getCause());
+            assertInstanceOf(IllegalStateException.class, waiterFailure.getCause());
+        }
+    }
+
+    @Test
+    void preload_wholeSchema_servesLoadsFromCache() throws SQLException {
+        stubTables("preloaded", "preloaded", "orders", "items");
+        when(metaData.getColumns(isNull(), eq("preloaded"), isNull(), isNull())).thenReturn(columnsResultSet);
+        when(columnsResultSet.next()).thenReturn(true, true, true, false);
+        when(columnsResultSet.getString("TABLE_CAT")).thenReturn(null);
+        when(columnsResultSet.getString("TABLE_SCHEM")).thenReturn("preloaded");
+        when(columnsResultSet.getString("TABLE_NAME")).thenReturn("orders", "orders", "items");
+        when(columnsResultSet.getString("COLUMN_NAME")).thenReturn("id", "total", "id");
+        when(columnsResultSet.getString("TYPE_NAME")).thenReturn("BIGINT", "NUMERIC", "BIGINT");
+        when(columnsResultSet.getInt("NULLABLE")).thenReturn(DatabaseMetaData.columnNoNulls);
+
+        var preloaded = SchemaResolver.preload(null, "preloaded", dataSource);
+        var orders = SchemaResolver.load(new TableRef.WithSchema("preloaded", "orders"), dataSource);
+        var items = SchemaResolver.load(new TableRef.WithSchema("preloaded", "items"), dataSource);
+
+        assertEquals(2, ((Ok<Integer, SchemaVerificationException>) preloaded).value());
+        assertEquals(2, ((Ok<Table, SchemaVerificationException>) orders).value().columns().length);
+        assertEquals(1, ((Ok<Table, SchemaVerificationException>) items).value().columns().length);
+        verify(dataSource, times(1)).getConnection();
+        verify(metaData, never()).getTables(any(), any(), notNull(), any());
+    }
+
+    @Test
+    void preload_currentSchema_escapesPatternAndServesUnqualifiedRefs() throws SQLException {
+        when(connection.getSchema()).thenReturn("my_app");
+        when(metaData.getSearchStringEscape()).thenReturn("\\");
+        stubTables("my\\_app", "my_app", "invoices");
+        when(metaData.getColumns(isNull(), eq("my\\_app"), isNull(), isNull())).thenReturn(columnsResultSet);
+        when(columnsResultSet.next()).thenReturn(true, true, false);
+        when(columnsResultSet.getString("TABLE_CAT")).thenReturn(null);
+        when(columnsResultSet.getString("TABLE_SCHEM")).thenReturn("my_app");
+        when(columnsResultSet.getString("TABLE_NAME")).thenReturn("invoices", "invoices");
+        when(columnsResultSet.getString("COLUMN_NAME")).thenReturn("id", "total");
+        when(columnsResultSet.getString("TYPE_NAME")).thenReturn("BIGINT", "NUMERIC");
+        when(columnsResultSet.getInt("NULLABLE")).thenReturn(DatabaseMetaData.columnNoNulls);
+
+        var preloaded = SchemaResolver.preload(null, "my_app", dataSource);
+        var invoices = SchemaResolver.load(new TableRef.Base("invoices"), dataSource);
+
+        assertEquals(1, ((Ok<Integer, SchemaVerificationException>) preloaded).value());
+        var table = ((Ok<Table, SchemaVerificationException>) invoices).value();
+        assertEquals(new Table.Schema.Known("my_app"), table.schema());
+        assertEquals(2, table.columns().length);
+        verify(metaData, never()).getTables(any(), any(), notNull(), any());
+    }
+
+    @Test
+    void preload_skipsObjectsThatAreNotTablesOrViews() throws SQLException {
+        stubTables("mixed", "mixed", "orders");
+        when(metaData.getColumns(isNull(), eq("mixed"), isNull(), isNull())).thenReturn(columnsResultSet);
+        when(columnsResultSet.next()).thenReturn(true, true, false);
+        when(columnsResultSet.getString("TABLE_CAT")).thenReturn(null);
+        when(columnsResultSet.getString("TABLE_SCHEM")).thenReturn("mixed");
+        when(columnsResultSet.getString("TABLE_NAME")).thenReturn("orders", "remote_orders");
+        when(columnsResultSet.getString("COLUMN_NAME")).thenReturn("id");
+        when(columnsResultSet.getString("TYPE_NAME")).thenReturn("BIGINT");
+        when(columnsResultSet.getInt("NULLABLE")).thenReturn(DatabaseMetaData.columnNoNulls);
+
+        var preloaded = SchemaResolver.preload(null, "mixed", dataSource);
+
+        assertEquals(1, ((Ok<Integer, SchemaVerificationException>) preloaded).value());
+        verify(metaData).getTables(isNull(), eq("mixed"), isNull(), aryEq(new String[]{"TABLE", "VIEW"}));
+    }
+
+    @Test
+    void close_dropsCachedTables() throws SQLException {
+        var tableRef = new TableRef.Base("closed_users");
+        setupSuccessfulTableLookup("closed_users", null, null);
+
+        SchemaResolver.load(tableRef, dataSource);
+        SchemaResolver.close();
+        when(tablesResultSet.next()).thenReturn(true);
+        when(columnsResultSet.next()).thenReturn(true, true, false);
+        SchemaResolver.load(tableRef, dataSource);
+
+        verify(dataSource, times(2)).getConnection();
+    }
+
+    @Test
+    void sweeper_startsOnceAndStops() {
+        SchemaResolver.startSweeper(Duration.ofMillis(10));
+        var sweeper = SchemaResolver.sweeper();
+        SchemaResolver.startSweeper(Duration.ofMillis(10));
+
+        assertNotNull(sweeper);
+        assertSame(sweeper, SchemaResolver.sweeper());
+        assertTrue(sweeper.isAlive());
+
+        SchemaResolver.stopSweeper();
+        assertNull(SchemaResolver.sweeper());
+        assertFalse(sweeper.isAlive());
+        assertThrows(IllegalArgumentException.class, () -> SchemaResolver.startSweeper(Duration.ZERO));
+    }
+
+    @Test
+    void restore_snapshot_servesLoadsFromCache() throws Exception {
+        var file = dir.resolve("schema.snapshot");
+        when(metaData.getURL()).thenReturn(URL);
+        writeSnapshot(file, entry("app", "items"), entry("app", "orders"));
+        stubSchema("app", "items", "orders");
+
+        var restored = SchemaResolver.restore(file, dataSource);
+        var orders = SchemaResolver.load(new TableRef.WithSchema("app", "orders"), dataSource);
+
+        assertEquals(2, ((Ok<Integer, SchemaVerificationException>) restored).value());
+        assertEquals("orders", ((Ok<Table, SchemaVerificationException>) orders).value().name());
+        verify(metaData, never()).getTables(any(), any(), notNull(), any());
+    }
+
+    @Test
+    void restore_otherDataSource_restoresNothing() throws Exception {
+        var file = dir.resolve("schema.snapshot");
+        when(metaData.getURL()).thenReturn("jdbc:postgresql://replica:5432/app");
+        writeSnapshot(file, entry("app", "orders"));
+
+        var restored = SchemaResolver.restore(file, dataSource);
+
+        assertEquals(0, ((Ok<Integer, SchemaVerificationException>) restored).value());
+    }
+
+    @Test
+    void revalidate_droppedTables_leaveSnapshot() throws Exception {
+        var file = dir.resolve("schema.snapshot");
+        when(metaData.getURL()).thenReturn(URL);
+        writeSnapshot(file, entry("app", "items"), entry("app", "orders"), entry(null, "legacy"));
+        stubSchema("app", "orders");
+        when(metaData.getTables(isNull(), isNull(), eq("legacy"), any())).thenReturn(tablesResultSet);
+        when(tablesResultSet.next()).thenReturn(false);
+
+        SchemaResolver.revalidate(file, readSnapshot(file), List.of(), dataSource);
+
+        var entries = readSnapshot(file).entries();
+        assertEquals(1, entries.size());
+        assertEquals("orders", entries.getFirst().table().name());
+    }
+
+    @Test
+    void revalidate_metadataFailure_keepsSnapshot() throws Exception {
+        var file = dir.resolve("schema.snapshot");
+        when(metaData.getURL()).thenReturn(URL);
+        writeSnapshot(file, entry("app", "orders"));
+        stubTables("app", "app", "orders");
+        when(metaData.getColumns(isNull(), eq("app"), isNull(), isNull())).thenThrow(new SQLException("connection reset"));
+        var before = Files.readAllBytes(file);
+
+        SchemaResolver.revalidate(file, readSnapshot(file), List.of(), dataSource);
+
+        assertArrayEquals(before, Files.readAllBytes(file));
+    }
+
+    @Test
+    void warmUp_noSnapshot_preloadsAndWritesWithoutUrl() throws Exception {
+        var file = dir.resolve("schema.snapshot");
+        when(metaData.getURL()).thenReturn("jdbc:postgresql://localhost:5432/app?password=secret");
+        stubSchema("app", "orders");
+
+        SchemaResolver.warmUp(new String[]{"app"}, file, dataSource);
+
+        var contents = SchemaSnapshot.read(file, SchemaSnapshot.source("jdbc:postgresql://localhost:5432/app?password=secret"));
+        assertNotNull(contents);
+        assertEquals("orders", contents.entries().getFirst().table().name());
+        assertFalse(Files.readString(file, StandardCharsets.ISO_8859_1).contains("secret"));
+    }
+
+    @Test
+    void warmUp_snapshot_preloadsMissingSchemas() throws Exception {
+        var file = dir.resolve("schema.snapshot");
+        when(metaData.getURL()).thenReturn(URL);
+        writeSnapshot(file, entry("app", "orders"));
+        stubSchema("app", "orders");
+        stubSchema("reports", "daily");
+
+        SchemaResolver.warmUp(new String[]{"app", "reports"}, file, dataSource);
+        var daily = SchemaResolver.load(new TableRef.WithSchema("reports", "daily"), dataSource);
+
+        assertEquals("daily", ((Ok<Table, SchemaVerificationException>) daily).value().name());
+        awaitSnapshot(file, 2);
+        verify(metaData, times(1)).getColumns(isNull(), eq("app"), isNull(), isNull());
+        verify(metaData, never()).getTables(any(), any(), notNull(), any());
+    }
+
+    @Test
+    void close_writesLazilyResolvedTablesToSnapshot() throws Exception {
+        var file = dir.resolve("schema.snapshot");
+        when(metaData.getURL()).thenReturn(URL);
+        setupSuccessfulTableLookup("lazy_users", null, null);
+
+        SchemaResolver.warmUp(new String[0], file, dataSource);
+        assertEquals(0, readSnapshot(file).entries().size());
+
+        SchemaResolver.load(new TableRef.Base("lazy_users"), dataSource);
+        SchemaResolver.close();
+
+        var entries = readSnapshot(file).entries();
+        assertEquals(1, entries.size());
+        assertEquals("lazy_users", entries.getFirst().table().name());
+
+        var restored = SchemaResolver.restore(file, dataSource);
+        assertEquals(1, ((Ok<Integer, SchemaVerificationException>) restored).value());
+    }
+
+    @Test
+    void flushSnapshots_refreshWithSameMetadata_keepsSnapshot() throws Exception {
+        var file = dir.resolve("schema.snapshot");
+        var tableRef = new TableRef.Base("lazy_users");
+        when(metaData.getURL()).thenReturn(URL);
+        setupSuccessfulTableLookup("lazy_users", null, null);
+
+        SchemaResolver.warmUp(new String[0], file, dataSource);
+        SchemaResolver.load(tableRef, dataSource);
+        SchemaResolver.flushSnapshots();
+        assertEquals(1, readSnapshot(file).entries().size());
+
+        Files.delete(file);
+        setupSuccessfulTableLookup("lazy_users", null, null);
+        assertInstanceOf(Ok.class, SchemaResolver.fetch(key(tableRef), dataSource));
+        SchemaResolver.flushSnapshots();
+
+        assertFalse(Files.exists(file));
+    }
+
     @Test
     void load_nullTableRef_throwsNullPointerException() {
         assertThrows(NullPointerException.class,
@@ -201,4 +506,84 @@ class SchemaResolverTest {
                 DatabaseMetaData.columnNullable
         );
     }
+
+    private static SchemaSnapshot.Entry entry(String schema, String name) {
+        var table = new Table(new Table.Catalog.Unknown(),
+                schema == null ? new Table.Schema.Unknown() : new Table.Schema.Known(schema),
+                name, new Column[]{new Column.Known("id", SQLType.BIGINT, false)});
+        return new SchemaSnapshot.Entry(null, schema, table);
+    }
+
+    private static void writeSnapshot(Path file, SchemaSnapshot.Entry... entries) throws IOException {
+        SchemaSnapshot.write(file, SchemaSnapshot.source(URL), List.of(entries));
+    }
+
+    private static SchemaSnapshot.Contents readSnapshot(Path file) throws IOException {
+        var contents = SchemaSnapshot.read(file, SchemaSnapshot.source(URL));
+        assertNotNull(contents);
+        return contents;
+    }
+
+    /**
+     * Waits until the background revalidation rewrote {@code file} with {@code count} entries.
+     */
+    private static void awaitSnapshot(Path file, int count) throws Exception {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (readSnapshot(file).entries().size() != count) {
+            if (System.nanoTime() - deadline > 0) fail("Snapshot was not rewritten with " + count + " entries");
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Stubs the wildcard {@code getTables} and {@code getColumns} of {@code schema} with one {@code id} column
+     * per table.
+     */
+    private void stubSchema(String schema, String... tables) throws SQLException {
+        stubTables(schema, schema, tables);
+
+        var rs = mock(ResultSet.class);
+        var more = new Boolean[tables.length];
+        for (int i = 0; i < more.length; i++) more[i] = i < more.length - 1;
+
+        when(rs.next()).thenReturn(true, more);
+        when(rs.getString("TABLE_CAT")).thenReturn(null);
+        when(rs.getString("TABLE_SCHEM")).thenReturn(schema);
+        when(rs.getString("TABLE_NAME")).thenReturn(tables[0], Arrays.copyOfRange(tables, 1, tables.length));
+        when(rs.getString("COLUMN_NAME")).thenReturn("id");
+        when(rs.getString("TYPE_NAME")).thenReturn("BIGINT");
+        when(rs.getInt("NULLABLE")).thenReturn(DatabaseMetaData.columnNoNulls);
+        when(metaData.getColumns(isNull(), eq(schema), isNull(), isNull())).thenReturn(rs);
+    }
+
+    /**
+     * Stubs the {@code getTables} call a preload of the schema {@code pattern} makes.
+     */
+    private void stubTables(String pattern, String schema, String... tables) throws SQLException {
+        var rs = mock(ResultSet.class);
+        var more = new Boolean[tables.length];
+        for (int i = 0; i < more.length; i++) more[i] = i < more.length - 1;
+
+        when(rs.next()).thenReturn(true, more);
+        when(rs.getString("TABLE_SCHEM")).thenReturn(schema);
+        when(rs.getString("TABLE_NAME")).thenReturn(tables[0], Arrays.copyOfRange(tables, 1, tables.length));
+        when(metaData.getTables(isNull(), eq(pattern), isNull(), any())).thenReturn(rs);
+    }
+
+    private TableCache.Key key(TableRef.Base tableRef) {
+        return new TableCache.Key(null, null, tableRef.name(), System.identityHashCode(dataSource));
+    }
+
+    /**
+     * Waits until {@code count} threads are parked on the in-flight load of {@code key}.
+     */
+    private static void awaitWaiters(TableCache.Key key, int count) throws InterruptedException {
+        var deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (true) {
+            var loading = SchemaResolver.loading(key);
+            if (loading != null && loading.getNumberOfDependents() >= count) return;
+            if (System.nanoTime() - deadline > 0) fail("Expected " + count + " threads waiting on the load of " + key);
+            Thread.sleep(1);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package io.github.hacihaciyev.schema.internal;
+
+import io.github.hacihaciyev.types.SQLType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaSnapshotTest {
+
+    private static final String URL = "jdbc:postgresql://localhost:5432/app";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void read_afterWrite_restoresEntries() throws IOException {
+        var file = dir.resolve("schema.snapshot");
+        var entries = entries();
+
+        SchemaSnapshot.write(file, URL, entries);
+        var contents = SchemaSnapshot.read(file, URL);
+
+        assertNotNull(contents);
+        assertEquals(SchemaSnapshot.fingerprint(entries), contents.fingerprint());
+        assertEquals(1, contents.entries().size());
+
+        var entry = contents.entries().getFirst();
+        assertNull(entry.catalog());
+        assertEquals("public", entry.schema());
+        assertEquals("users", entry.table().name());
+        assertEquals(new Table.Schema.Known("public"), entry.table().schema());
+        assertEquals(new Column.Known("id", SQLType.BIGINT, false), entry.table().columns()[0]);
+        assertEquals(new Column.Unknown("payload", true), entry.table().columns()[1]);
+    }
+
+    @Test
+    void read_otherUrl_returnsNull() throws IOException {
+        var file = dir.resolve("schema.snapshot");
+        SchemaSnapshot.write(file, URL, entries());
+
+        assertNull(SchemaSnapshot.read(file, "jdbc:postgresql://replica:5432/app"));
+    }
+
+    @Test
+    void read_corruptedFile_returnsNull() throws IOException {
+        var file = dir.resolve("schema.snapshot");
+        SchemaSnapshot.write(file, URL, entries());
+
+        var bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 3] ^= 0x5A;
+        Files.write(file, bytes);
+
+        assertNull(SchemaSnapshot.read(file, URL));
+    }
+
+    @Test
+    void read_oversizedLength_returnsNull() throws IOException {
+        var file = dir.resolve("schema.snapshot");
+        SchemaSnapshot.write(file, URL, entries());
+
+        var bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(8, Integer.MAX_VALUE);
+        Files.write(file, bytes);
+
+        assertNull(SchemaSnapshot.read(file, URL));
+    }
+
+    @Test
+    void read_missingFile_returnsNull() throws IOException {
+        assertNull(SchemaSnapshot.read(dir.resolve("absent.snapshot"), URL));
+    }
+
+    private static List<SchemaSnapshot.Entry> entries() {
+        var users = new Table(new Table.Catalog.Unknown(), new Table.Schema.Known("public"), "users", new Column[]{
+                new Column.Known("id", SQLType.BIGINT, false),
+                new Column.Unknown("payload", true)
+        });
+        return List.of(new SchemaSnapshot.Entry(null, "public", users));
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.hacihaciyev.schema.internal;
+
+import io.github.hacihaciyev.types.SQLType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableCacheTest {
+
+    private static final long TTL = 60_000_000_000L;
+
+    @Test
+    void get_afterPut_hits() {
+        var cache = new TableCache(16);
+        var key = key("users");
+        var users = table("users");
+
+        assertNull(cache.get(key));
+        cache.put(key, users, System.nanoTime() + TTL, System.nanoTime() + 2 * TTL);
+
+        assertEquals(new TableCache.Cached(users, false), cache.get(key));
+        var stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void put_fullSet_evictsUnreferencedEntry() {
+        var cache = new TableCache(TableCache.WAYS);
+        for (int i = 0; i < TableCache.WAYS; i++) cache.put(key("t" + i), table("t" + i), System.nanoTime() + TTL, System.nanoTime() + 2 * TTL);
+        assertNotNull(cache.get(key("t0")));
+
+        cache.put(key("hot"), table("hot"), System.nanoTime() + TTL, System.nanoTime() + 2 * TTL);
+
+        assertNotNull(cache.get(key("t0")));
+        assertNotNull(cache.get(key("hot")));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void put_concurrentLoadersOfOneKey_occupyOneSlot() throws Exception {
+        var cache = new TableCache(TableCache.WAYS);
+        var key = key("users");
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(TableCache.WAYS)) {
+            for (int t = 0; t < TableCache.WAYS; t++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) cache.put(key, table("users"), System.nanoTime() + TTL, System.nanoTime() + 2 * TTL);
+                    return null;
+                });
+            }
+            start.countDown();
+        }
+
+        var count = new AtomicInteger();
+        cache.forEach((k, _) -> {
+            if (k.equals(key)) count.incrementAndGet();
+        });
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void get_expiredEntry_misses() {
+        var cache = new TableCache(16);
+        var key = key("users");
+        cache.put(key, table("users"), System.nanoTime() - 2, System.nanoTime() - 1);
+
+        assertNull(cache.get(key));
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void get_pastRefreshTime_returnsStaleEntry() {
+        var cache = new TableCache(16);
+        var key = key("users");
+        var users = table("users");
+        cache.put(key, users, System.nanoTime() - 1, System.nanoTime() + TTL);
+
+        assertEquals(new TableCache.Cached(users, true), cache.get(key));
+    }
+
+    @Test
+    void get_otherDataSource_misses() {
+        var cache = new TableCache(16);
+        cache.put(new TableCache.Key(null, "public", "users", 1), table("users"), System.nanoTime() + TTL, System.nanoTime() + 2 * TTL);
+
+        assertNull(cache.get(new TableCache.Key(null, "public", "users", 2)));
+    }
+
+    private static TableCache.Key key(String table) {
+        return new TableCache.Key(null, "public", table, 1);
+    }
+
+    private static Table table(String name) {
+        return new Table(new Table.Catalog.Unknown(), new Table.Schema.Known("public"), name,
+                new Column[]{new Column.Known("id", SQLType.BIGINT, false)});
+    }
+}
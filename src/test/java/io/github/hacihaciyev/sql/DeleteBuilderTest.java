@@ -225,4 +225,15 @@ class DeleteBuilderTest {
 
         log();
     }
-}
\ No newline at end of file
+
+    @Test
+    void byKeys() {
+        assertEquals("DELETE FROM events WHERE id = ANY(?) ",
+                delete()
+                        .from("events")
+                        .whereAny("id")
+                        .build().sql());
+
+        log();
+    }
+}
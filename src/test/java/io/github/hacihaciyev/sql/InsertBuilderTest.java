@@ -1,10 +1,14 @@
 package io.github.hacihaciyev.sql;
 
+import io.github.hacihaciyev.types.ArrayDefinition;
 import org.junit.jupiter.api.Test;
 
 import static io.github.hacihaciyev.sql.QueryForge.*;
 import static io.github.hacihaciyev.sql.SelectBuilderTest.log;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InsertBuilderTest {
 
@@ -371,4 +375,66 @@ class InsertBuilderTest {
 
         log();
     }
-}
\ No newline at end of file
+
+    @Test
+    void multiRowValues() {
+        assertEquals("INSERT INTO employees (id, name) VALUES (?, ?), (?, ?), (?, ?) ",
+                insert()
+                        .into("employees", "id", "name")
+                        .values(3)
+                        .build().sql());
+
+        log();
+
+        assertEquals("INSERT INTO employees (id, name ) VALUES (?, ?), (?, ?) ON CONFLICT (id) DO NOTHING ",
+                insert()
+                        .into("employees")
+                        .column("id")
+                        .column("name")
+                        .values(2)
+                        .onConflict("id")
+                        .doNothing()
+                        .build().sql());
+
+        log();
+    }
+
+    @Test
+    void rowsTemplate() {
+        var template = insert()
+                .into("items", "item_id", "item_name")
+                .values()
+                .onConflict("item_id")
+                .doUpdateSet("item_name = EXCLUDED.item_name")
+                .template();
+
+        assertEquals(2, template.width());
+        assertEquals(16383, template.maxRows(32767));
+        assertEquals(1, template.maxRows(2));
+        var tooWide = assertThrows(IllegalArgumentException.class, () -> template.maxRows(1));
+        assertTrue(tooWide.getMessage().contains("jetquerious.bind.limit"));
+        assertEquals("INSERT INTO items (item_id, item_name) VALUES (?, ?), (?, ?) ON CONFLICT (item_id) DO UPDATE SET item_name = EXCLUDED.item_name ",
+                template.sql(2));
+        assertSame(template.sql(2), template.sql(2));
+        assertThrows(IllegalStateException.class, () -> insert().defaultValues("items").template());
+        assertThrows(IllegalArgumentException.class, () -> RowsTemplate.of("INSERT INTO items (id) VALUES ", 1, "RETURNING ?"));
+        assertEquals(1, RowsTemplate.of("INSERT INTO items (name) VALUES ", 1, "ON CONFLICT DO UPDATE SET name = '?' ").width());
+    }
+
+    @Test
+    void unnest() {
+        assertEquals("INSERT INTO accounts (id, name, balance) SELECT * FROM UNNEST(?::bigint[], ?::text[], ?::numeric[]) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name ",
+                insert()
+                        .into("accounts", "id", "name", "balance")
+                        .unnest(ArrayDefinition.BIGINT, ArrayDefinition.TEXT, ArrayDefinition.NUMERIC)
+                        .onConflict("id")
+                        .doUpdateSet("name = EXCLUDED.name")
+                        .build().sql());
+
+        log();
+
+        assertThrows(IllegalArgumentException.class, () -> insert()
+                .into("accounts", "id", "name")
+                .unnest(ArrayDefinition.BIGINT));
+    }
+}
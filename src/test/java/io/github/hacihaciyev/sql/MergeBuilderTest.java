@@ -0,0 +1,64 @@
+package io.github.hacihaciyev.sql;
+
+import io.github.hacihaciyev.types.ArrayDefinition;
+import org.junit.jupiter.api.Test;
+
+import static io.github.hacihaciyev.sql.QueryForge.merge;
+import static io.github.hacihaciyev.sql.QueryForge.select;
+import static io.github.hacihaciyev.sql.SelectBuilderTest.log;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MergeBuilderTest {
+
+    @Test
+    void test() {
+        assertEquals("MERGE INTO accounts AS t USING (VALUES (?, ?), (?, ?) ) AS s (id, name) ON t.id = s.id WHEN MATCHED THEN UPDATE SET name = s.name WHEN NOT MATCHED THEN INSERT (id, name) VALUES (s.id, s.name) ",
+                merge("accounts AS t")
+                        .usingValues(2, "s", "id", "name")
+                        .on("t.id = s.id")
+                        .whenMatchedThenUpdateColumns("name")
+                        .whenNotMatchedThenInsert("id", "name")
+                        .build().sql());
+
+        log();
+
+        assertEquals("MERGE INTO accounts AS t USING (SELECT id, name FROM staging ) AS s ON t.id = s.id WHEN MATCHED AND s.deleted THEN DELETE WHEN MATCHED THEN UPDATE SET name = s.name ",
+                merge("accounts AS t")
+                        .using(select().columns("id", "name").from("staging").build().toSQlQuery(), "s")
+                        .on("t.id = s.id")
+                        .whenMatchedThenDelete("s.deleted")
+                        .whenMatchedThenUpdate("name = s.name")
+                        .build().sql());
+
+        log();
+
+        assertEquals("MERGE INTO accounts AS t USING (SELECT * FROM UNNEST(?::bigint[], ?::text[]) ) AS s (id, name) ON t.id = s.id WHEN NOT MATCHED THEN INSERT (id, name) VALUES (s.id, s.name) ",
+                merge("accounts AS t")
+                        .usingUnnest("s", new String[]{"id", "name"}, ArrayDefinition.BIGINT, ArrayDefinition.TEXT)
+                        .on("t.id = s.id")
+                        .whenNotMatchedThenInsert("id", "name")
+                        .build().sql());
+
+        log();
+    }
+
+    @Test
+    void valuesTemplate() {
+        var template = merge("accounts AS t")
+                .usingValues("s", "id", "name")
+                .on("t.id = s.id")
+                .whenMatchedThenUpdateColumns("name")
+                .template();
+
+        assertEquals(2, template.width());
+        assertEquals("MERGE INTO accounts AS t USING (VALUES (?, ?), (?, ?), (?, ?) ) AS s (id, name) ON t.id = s.id WHEN MATCHED THEN UPDATE SET name = s.name ",
+                template.sql(3));
+
+        assertThrows(IllegalStateException.class, () -> merge("accounts AS t")
+                .using("staging", "s")
+                .on("t.id = s.id")
+                .whenMatchedThenDoNothing()
+                .template());
+    }
+}
@@ -4,7 +4,9 @@ import org.junit.jupiter.api.Test;
 import java.util.logging.Logger;
 
 import static io.github.hacihaciyev.sql.QueryForge.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class SelectBuilderTest {
 
@@ -796,6 +798,96 @@ class SelectBuilderTest {
         );
     }
 
+    @Test
+    void keysetPagination() {
+        var noWhere = select()
+                .column("id")
+                .column("created_at")
+                .from("orders")
+                .after("created_at", "id");
+
+        assertEquals("SELECT id , created_at FROM orders ORDER BY created_at ASC, id ASC LIMIT ? ", noWhere.first().sql());
+        assertEquals("SELECT id , created_at FROM orders WHERE (created_at, id) > (?, ?) ORDER BY created_at ASC, id ASC LIMIT ? ", noWhere.next().sql());
+
+        log();
+
+        var withWhere = select()
+                .column("o.id")
+                .from("orders o")
+                .where("o.status = ?")
+                .or("o.status = ?")
+                .after(Order.DESC, "o.id");
+
+        assertEquals("SELECT o.id FROM orders o WHERE o.status = ? OR o.status = ? ORDER BY o.id DESC LIMIT ? ", withWhere.first().sql());
+        assertEquals("SELECT o.id FROM orders o WHERE (o.status = ? OR o.status = ?) AND (o.id) < (?) ORDER BY o.id DESC LIMIT ? ", withWhere.next().sql());
+        assertEquals("id", withWhere.labels()[0]);
+
+        var aliased = select()
+                .column("lower(u.name) AS name_key")
+                .column("u.id")
+                .from("users u")
+                .after("lower(u.name)", "u.id")
+                .withLabels("name_key", "id");
+
+        assertEquals("SELECT lower(u.name) AS name_key , u.id FROM users u WHERE (lower(u.name), u.id) > (?, ?) ORDER BY lower(u.name) ASC, u.id ASC LIMIT ? ", aliased.next().sql());
+        assertArrayEquals(new String[]{"name_key", "id"}, aliased.labels());
+        assertThrows(IllegalArgumentException.class, () -> aliased.withLabels("id"));
+
+        log();
+    }
+
+    @Test
+    void inLists() {
+        assertEquals("SELECT id FROM users WHERE id IN(?, ?, ?) ",
+                select().column("id").from("users").whereIn("id", 3).build().sql());
+
+        log();
+
+        assertEquals("SELECT id FROM users WHERE id IN(?, ?, ?, ?) ",
+                select().column("id").from("users").whereInBucketed("id", 3).build().sql());
+
+        log();
+
+        assertEquals("SELECT id FROM users WHERE id = ANY(?) AND active = ? ",
+                select().column("id").from("users").whereAny("id").and("active = ?").build().sql());
+
+        log();
+    }
+
+    @Test
+    void inListBuckets() {
+        assertEquals(0, InList.bucket(0));
+        assertEquals(1, InList.bucket(1));
+        assertEquals(4, InList.bucket(3));
+        assertEquals(1024, InList.bucket(1000));
+        assertArrayEquals(new Object[]{1, 2, 3, 3}, InList.pad(1, 2, 3));
+        assertArrayEquals(new Object[]{1, 2}, InList.pad(1, 2));
+
+        log();
+    }
+
+    @Test
+    void rowValueIn() {
+        var template = select()
+                .all()
+                .from("accounts")
+                .whereRowIn("tenant_id", "id")
+                .and("deleted = false")
+                .template();
+
+        assertEquals(2, template.width());
+        assertEquals("SELECT * FROM accounts WHERE (tenant_id, id) IN ((?, ?), (?, ?) ) AND deleted = false ", template.sql(2));
+        assertThrows(IllegalStateException.class, () -> select().all().from("accounts").where("id = ?").template());
+        assertThrows(IllegalStateException.class, () -> select()
+                .all()
+                .from("accounts")
+                .whereRowIn("tenant_id", "id")
+                .and("status = ?")
+                .template());
+
+        log();
+    }
+
     static void log() {
         Log.info("Test %d passed.".formatted(++passesTests));
     }
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import static io.github.hacihaciyev.sql.QueryForge.update;
 import static io.github.hacihaciyev.sql.SelectBuilderTest.log;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class UpdateBuilderTest {
 
@@ -202,4 +204,33 @@ class UpdateBuilderTest {
 
         log();
     }
-}
\ No newline at end of file
+
+    @Test
+    void bulkFromValues() {
+        assertEquals("UPDATE products AS t SET price = v.price, stock = v.stock FROM (VALUES (?, ?, ?), (?, ?, ?) ) AS v (id, price, stock) WHERE t.id = v.id ",
+                update("products AS t")
+                        .setColumns("v", "price", "stock")
+                        .fromValues(2, "v", "id", "price", "stock")
+                        .where("t.id = v.id")
+                        .build().sql());
+
+        log();
+
+        var template = update("products AS t")
+                .set("price = v.price")
+                .fromValues("v", "id", "price")
+                .where("t.id = v.id")
+                .template();
+
+        assertEquals(2, template.width());
+        assertEquals("UPDATE products AS t SET price = v.price FROM (VALUES (?, ?), (?, ?), (?, ?) ) AS v (id, price) WHERE t.id = v.id ",
+                template.sql(3));
+        assertSame(template.sql(3), template.sql(3));
+        assertThrows(IllegalStateException.class, () -> update("products").set("price = 0").where("id = ?").template());
+        assertThrows(IllegalStateException.class, () -> update("products AS t")
+                .set("price = v.price")
+                .fromValues("v", "id", "price")
+                .where("t.id = v.id AND t.tenant_id = ?")
+                .template());
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.hacihaciyev.types;
+
+import java.math.BigDecimal;
+
+/**
+ * Records shared by tests outside of this package. They live here so that
+ * {@code MetaGenExtension} (which scans {@code io.github.hacihaciyev.types}) generates their metadata.
+ */
+public final class TestRecords {
+
+    private TestRecords() {}
+
+    public record Account(long id, String name) {}
+
+    public record AccountKey(long tenantId, long id) {}
+
+    public record Money(BigDecimal amount, String currency) {}
+}
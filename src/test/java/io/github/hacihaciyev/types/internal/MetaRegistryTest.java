@@ -8,11 +8,15 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import java.lang.classfile.ClassFile;
 import java.lang.classfile.ClassModel;
+import java.lang.invoke.MethodType;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
@@ -27,6 +31,9 @@ class MetaRegistryTest {
     record AllPrimitives(int i, long l, double d, float f, boolean z, byte b, char c, short s) {}
     record Mixed(String str, int num, List<String> list, int[] array) {}
     record Nested(Person person, String extra) {}
+    record OwnerId(long value) {}
+    record Handle(String value) {}
+    record Pet(OwnerId owner, Handle handle, String name) {}
 
     @Test
     @Order(1)
@@ -45,6 +52,8 @@ class MetaRegistryTest {
         assertTrue(hasMethod(registry, "_factory_Lio_github_hacihaciyev_types_internal_MetaRegistryTest$Mixed"));
         assertTrue(hasMethod(registry, "_meta_Lio_github_hacihaciyev_types_internal_MetaRegistryTest$Nested"));
         assertTrue(hasMethod(registry, "_factory_Lio_github_hacihaciyev_types_internal_MetaRegistryTest$Nested"));
+        assertTrue(hasMethod(registry, "_reader_Lio_github_hacihaciyev_types_internal_MetaRegistryTest$Person"));
+        assertTrue(hasMethod(registry, "_reader_Lio_github_hacihaciyev_types_internal_MetaRegistryTest$AllPrimitives"));
     }
 
     @Test
@@ -143,6 +152,103 @@ class MetaRegistryTest {
         assertNotSame(original, copy);
     }
 
+    @Test
+    @Order(10)
+    void testRowReader() throws SQLException {
+        var meta = (TypeMeta.Record<Person>) MetaRegistry.meta(Person.class);
+        var rs = mock(ResultSet.class);
+        when(rs.getString(2)).thenReturn("Alice");
+        when(rs.getInt(1)).thenReturn(30);
+
+        assertEquals(new Person("Alice", 30), meta.reader().read(rs, new int[]{2, 1}));
+    }
+
+    @Test
+    @Order(11)
+    void testRowReaderAllPrimitives() throws SQLException {
+        var meta = (TypeMeta.Record<AllPrimitives>) MetaRegistry.meta(AllPrimitives.class);
+        var rs = mock(ResultSet.class);
+        when(rs.getInt(1)).thenReturn(1);
+        when(rs.getLong(2)).thenReturn(2L);
+        when(rs.getDouble(3)).thenReturn(3.0);
+        when(rs.getFloat(4)).thenReturn(4.0f);
+        when(rs.getBoolean(5)).thenReturn(true);
+        when(rs.getByte(6)).thenReturn((byte) 5);
+        when(rs.getString(7)).thenReturn("c");
+        when(rs.getShort(8)).thenReturn((short) 6);
+
+        var read = meta.reader().read(rs, new int[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertEquals(new AllPrimitives(1, 2L, 3.0, 4.0f, true, (byte) 5, 'c', (short) 6), read);
+    }
+
+    @Test
+    @Order(12)
+    void testExactConstructorHandle() throws Throwable {
+        var meta = (TypeMeta.Record<Person>) MetaRegistry.meta(Person.class);
+
+        var person = (Person) meta.constructor().invokeExact("Alice", 30);
+
+        assertEquals(new Person("Alice", 30), person);
+        assertEquals(MethodType.methodType(Person.class, String.class, int.class), meta.constructor().type());
+    }
+
+    @Test
+    @Order(13)
+    void testPrimitiveAccessors() {
+        var meta = (TypeMeta.Record<AllPrimitives>) MetaRegistry.meta(AllPrimitives.class);
+        var value = new AllPrimitives(1, 2L, 3.0, 4.0f, true, (byte) 5, 'c', (short) 6);
+
+        var ofInt = assertInstanceOf(Field.Primitive.OfInt.class, meta.fields()[0].primitive());
+        var ofLong = assertInstanceOf(Field.Primitive.OfLong.class, meta.fields()[1].primitive());
+        var ofDouble = assertInstanceOf(Field.Primitive.OfDouble.class, meta.fields()[2].primitive());
+
+        assertEquals(1, ((Field.Primitive.OfInt<AllPrimitives>) ofInt).accessor().applyAsInt(value));
+        assertEquals(2L, ((Field.Primitive.OfLong<AllPrimitives>) ofLong).accessor().applyAsLong(value));
+        assertEquals(3.0, ((Field.Primitive.OfDouble<AllPrimitives>) ofDouble).accessor().applyAsDouble(value));
+        assertInstanceOf(Field.Primitive.None.class, meta.fields()[3].primitive());
+    }
+
+    @Test
+    @Order(14)
+    void testRowReaderBlankChar() throws SQLException {
+        var meta = (TypeMeta.Record<AllPrimitives>) MetaRegistry.meta(AllPrimitives.class);
+        var rs = mock(ResultSet.class);
+        var indexes = new int[]{1, 2, 3, 4, 5, 6, 7, 8};
+
+        when(rs.getString(7)).thenReturn(null);
+        assertEquals('\0', meta.reader().read(rs, indexes).c());
+
+        when(rs.getString(7)).thenReturn("");
+        assertEquals('\0', meta.reader().read(rs, indexes).c());
+    }
+
+    @Test
+    @Order(15)
+    void testRowReaderWrapperRecordComponents() throws SQLException {
+        var meta = (TypeMeta.Record<Pet>) MetaRegistry.meta(Pet.class);
+        var rs = mock(ResultSet.class);
+        var indexes = new int[]{1, 2, 3};
+        when(rs.getLong(1)).thenReturn(7L);
+        when(rs.getString(2)).thenReturn("rex_7");
+        when(rs.getString(3)).thenReturn("Rex");
+
+        assertEquals(new Pet(new OwnerId(7L), new Handle("rex_7"), "Rex"), meta.reader().read(rs, indexes));
+
+        when(rs.getLong(1)).thenReturn(0L);
+        when(rs.wasNull()).thenReturn(true);
+        when(rs.getString(2)).thenReturn(null);
+        assertEquals(new Pet(null, null, "Rex"), meta.reader().read(rs, indexes));
+    }
+
+    @Test
+    @Order(16)
+    void testNoRowReaderForCompositeRecordComponent() {
+        var meta = (TypeMeta.Record<?>) MetaRegistry.meta(Nested.class);
+
+        assertNull(meta.reader());
+    }
+
     static Stream<Arguments> recordFactoryCases() {
         return Stream.of(
                 Arguments.of(
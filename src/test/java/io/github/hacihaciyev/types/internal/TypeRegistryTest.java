@@ -1,5 +1,7 @@
 package io.github.hacihaciyev.types.internal;
 
+import io.github.hacihaciyev.types.ArrayDefinition;
+import io.github.hacihaciyev.types.AsArray;
 import io.github.hacihaciyev.types.AsObject;
 import io.github.hacihaciyev.types.AsString;
 import io.github.hacihaciyev.types.SQLType;
@@ -246,9 +248,91 @@ class TypeRegistryTest {
         verify(stmt).setString(1, "42");
     }
 
+    @Test
+    void shouldBindAsArrayThroughCreateArrayOf() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+        var conn = mock(Connection.class);
+        var array = mock(java.sql.Array.class);
+        var ids = new Object[]{1L, 2L};
+        when(stmt.getConnection()).thenReturn(conn);
+        when(conn.createArrayOf("bigint", ids)).thenReturn(array);
+
+        var info = (TypeInfoOk) TypeRegistry.info(AsArray.class);
+        info.setter().set(stmt, new AsArray(ArrayDefinition.BIGINT, ids), 1);
+
+        verify(stmt).setArray(1, array);
+    }
+
+    @Test
+    void shouldBindPrimitiveArrayThroughCreateArrayOfOnGenericDriver() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+        var conn = mock(Connection.class);
+        var array = mock(java.sql.Array.class);
+        when(stmt.getConnection()).thenReturn(conn);
+        when(conn.createArrayOf("bigint", new Object[]{1L, 2L})).thenReturn(array);
+
+        var info = (TypeInfoOk) TypeRegistry.info(long[].class);
+        assertThat(info.sqlTypes()).contains(SQLType.ARRAY);
+        info.setter().set(stmt, new long[]{1L, 2L}, 1);
+
+        verify(stmt).setArray(1, array);
+    }
+
+    @Test
+    void shouldBindListWithElementArrayDefinition() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+        var conn = mock(Connection.class);
+        var array = mock(java.sql.Array.class);
+        var id = UUID.randomUUID();
+        when(stmt.getConnection()).thenReturn(conn);
+        when(conn.createArrayOf("uuid", new Object[]{id})).thenReturn(array);
+
+        var info = (TypeInfoOk) TypeRegistry.info(List.of(id).getClass());
+        info.setter().set(stmt, List.of(id), 1);
+
+        verify(stmt).setArray(1, array);
+    }
+
+    @Test
+    void shouldBindEmptyListAsEmptyArray() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+
+        var info = (TypeInfoOk) TypeRegistry.info(ArrayList.class);
+        info.setter().set(stmt, new ArrayList<>(), 1);
+
+        verify(stmt).setObject(1, "{}", java.sql.Types.OTHER);
+        verify(stmt, never()).getParameterMetaData();
+        verify(stmt, never()).getConnection();
+    }
+
+    @Test
+    void shouldBindAllNullListAsArrayOfNulls() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+        var values = new ArrayList<>();
+        values.add(null);
+        values.add(null);
+
+        var info = (TypeInfoOk) TypeRegistry.info(ArrayList.class);
+        info.setter().set(stmt, values, 1);
+
+        verify(stmt).setObject(1, "{NULL,NULL}", java.sql.Types.OTHER);
+        verify(stmt, never()).getParameterMetaData();
+    }
+
+    @Test
+    void shouldNotBindSetAsArray() {
+        assertThat(TypeRegistry.info(HashSet.class)).isInstanceOf(None.class);
+    }
+
     record UserId(UUID id) {}
     record UserName(String name) {}
-    record InvalidRecord(String a, String b) {}
+    record InvalidRecord(String a, Object b) {}
+    record AccountId(long value) {}
+    record Quantity(int value) {}
+    record Money(BigDecimal amount, String currency) {}
+    record Payment(long id, Money price, UserName payer) {}
+    record Parent(long id, Child child) {}
+    record Child(long id, Parent parent) {}
 
     @Test
     void shouldUnwrapSingleValueRecord() throws Exception {
@@ -262,6 +346,20 @@ class TypeRegistryTest {
         verify(stmt).setObject(1, uuid);
     }
 
+    @Test
+    void shouldBindPrimitiveRecordComponentWithoutBoxing() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+
+        var accountInfo = (TypeInfoOk) TypeRegistry.info(AccountId.class);
+        accountInfo.setter().set(stmt, new AccountId(42L), 1);
+
+        var quantityInfo = (TypeInfoOk) TypeRegistry.info(Quantity.class);
+        quantityInfo.setter().set(stmt, new Quantity(7), 2);
+
+        verify(stmt).setLong(1, 42L);
+        verify(stmt).setInt(2, 7);
+    }
+
     @Test
     void shouldInheritSQLTypesFromComponent() {
         var recordInfo = (TypeInfoOk) TypeRegistry.info(UserId.class);
@@ -279,10 +377,55 @@ class TypeRegistryTest {
     }
 
     @Test
-    void shouldRejectMultiFieldRecord() {
+    void shouldFlattenMultiFieldRecord() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+        var info = (WithFactory<Money>) TypeRegistry.info(Money.class);
+
+        info.setter().set(stmt, new Money(new BigDecimal("10.50"), "EUR"), 3);
+
+        assertThat(info.width()).isEqualTo(2);
+        verify(stmt).setBigDecimal(3, new BigDecimal("10.50"));
+        verify(stmt).setString(4, "EUR");
+    }
+
+    @Test
+    void shouldFlattenNestedRecords() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+        var info = (TypeInfoOk) TypeRegistry.info(Payment.class);
+
+        info.setter().set(stmt, new Payment(5L, new Money(BigDecimal.ONE, "USD"), new UserName("bob")), 1);
+
+        assertThat(info.width()).isEqualTo(4);
+        verify(stmt).setLong(1, 5L);
+        verify(stmt).setBigDecimal(2, BigDecimal.ONE);
+        verify(stmt).setString(3, "USD");
+        verify(stmt).setString(4, "bob");
+    }
+
+    @Test
+    void shouldBindNullNestedRecordAsNulls() throws Exception {
+        var stmt = mock(PreparedStatement.class);
+        var info = (TypeInfoOk) TypeRegistry.info(Payment.class);
+
+        info.setter().set(stmt, new Payment(5L, null, null), 1);
+
+        verify(stmt).setLong(1, 5L);
+        verify(stmt).setNull(2, Types.NULL);
+        verify(stmt).setNull(3, Types.NULL);
+        verify(stmt).setNull(4, Types.NULL);
+    }
+
+    @Test
+    void shouldRejectRecordWithUnsupportedComponent() {
         assertThat(TypeRegistry.info(InvalidRecord.class)).isInstanceOf(None.class);
     }
 
+    @Test
+    void shouldRejectMutuallyRecursiveRecords() {
+        assertThat(TypeRegistry.info(Parent.class)).isInstanceOf(None.class);
+        assertThat(TypeRegistry.info(Child.class)).isInstanceOf(None.class);
+    }
+
     @Test
     void shouldRejectNonRecord() {
         class NotARecord {}